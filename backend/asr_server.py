@@ -55,6 +55,14 @@
 #
 #     print(f"STT 예측 결과: {result_text}")
 #     return {"text": result_text}
+#
+#
+# # 상태 확인 (백엔드 AsrReplicaPool이 주기적으로 호출, 모델이 없으면 503)
+# @app.get("/health")
+# async def health():
+#     if stt_pipeline is None:
+#         raise HTTPException(status_code=503, detail="STT 모델이 로드되지 않았습니다.")
+#     return {"status": "ok"}
 
 # asr_server_dummy.py
 from fastapi import FastAPI, File, UploadFile
@@ -65,3 +73,8 @@ app = FastAPI()
 async def transcribe(file: UploadFile = File(...)):
     # 실제 음성 인식 대신 항상 고정된 텍스트 반환
     return {"text": "더미 인식 결과: 안녕하세요"}
+
+# 상태 확인 (백엔드 AsrReplicaPool이 주기적으로 호출)
+@app.get("/health")
+async def health():
+    return {"status": "ok"}
@@ -63,6 +63,15 @@ dependencies {
     // [추가] FCM 라이브러리
     implementation("com.google.firebase:firebase-admin:9.2.0")
 
+    // actuator (메트릭)
+    implementation("org.springframework.boot:spring-boot-starter-actuator")
+
+    // Apache HttpClient 5 (외부 API 호출 연결 풀, keep-alive)
+    implementation("org.apache.httpcomponents.client5:httpclient5")
+
+    // jtokkit (GPT-4o 토크나이저 o200k_base, 프롬프트 토큰 계산)
+    implementation("com.knuddels:jtokkit:1.1.0")
+
     // 테스트
     testImplementation("org.springframework.boot:spring-boot-starter-test")
 
@@ -52,6 +52,33 @@
 #
 #     print(f"감정 분석 결과: {result_emotion}")
 #     return {"emotion": result_emotion}
+#
+#
+# class EmotionBatchRequest(BaseModel):
+#     texts: list[str]
+#
+# # 여러 문장을 한 번에 추론 (EmotionClient가 동시 요청을 모아서 호출)
+# @app.post("/emotion/analyze/batch")
+# async def analyze_emotion_batch(request: EmotionBatchRequest):
+#
+#     if emotion_pipeline is None:
+#         raise HTTPException(status_code=500, detail="감정 분석 모델이 로드되지 않았습니다.")
+#
+#     # 빈 문장은 모델에 넣지 않고 "중립"
+#     indexed = [(i, t) for i, t in enumerate(request.texts) if t]
+#     emotions = ["중립"] * len(request.texts)
+#
+#     try:
+#         if indexed:
+#             results = emotion_pipeline([t for _, t in indexed], batch_size=len(indexed))
+#             for (i, _), result in zip(indexed, results):
+#                 emotions[i] = result['label']
+#     except Exception as e:
+#         print(f"모델 예측 오류: {e}")
+#         raise HTTPException(status_code=500, detail=f"모델 예측 오류: {e}")
+#
+#     print(f"감정 분석 결과({len(emotions)}건): {emotions}")
+#     return {"emotions": emotions}
 
 from fastapi import FastAPI
 from pydantic import BaseModel
@@ -61,6 +88,10 @@ from pydantic import BaseModel
 class EmotionRequest(BaseModel):
     text: str
 
+# 일괄 요청 모델 ({"texts": ["...", "..."]})
+class EmotionBatchRequest(BaseModel):
+    texts: list[str]
+
 app = FastAPI()
 
 # 감정 분석 API의 엔드포인트
@@ -82,4 +113,15 @@ async def analyze_emotion(request: EmotionRequest):
 
     # Spring(EmotionClient)으로 보낼 응답 JSON 반환
     # ({"emotion": "..."})
-    return {"emotion": dummy_emotion}
\ No newline at end of file
+    return {"emotion": dummy_emotion}
+
+# 일괄 감정 분석 API (요청 순서대로 {"emotions": [...]} 반환)
+@app.post("/emotion/analyze/batch")
+async def analyze_emotion_batch(request: EmotionBatchRequest):
+
+    # (테스트용) 터미널에 수신된 문장 수 출력
+    print(f"--- FastAPI (Emotion Server, batch) ---")
+    print(f"수신된 문장 수: {len(request.texts)}")
+
+    # (더미 데이터) 실제 모델 대신 항상 '기쁨'을 반환
+    return {"emotions": ["기쁨" for _ in request.texts]}
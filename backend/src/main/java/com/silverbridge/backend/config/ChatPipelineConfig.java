@@ -0,0 +1,115 @@
+package com.silverbridge.backend.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * 챗봇 파이프라인의 독립 단계(감정 분석, 명령 추출 등)를 병렬 실행하기 위한 스레드 풀 설정
+ */
+@Configuration
+public class ChatPipelineConfig {
+
+    @Value("${chatbot.pipeline.pool-size:8}")
+    private int poolSize;
+
+    @Value("${chatbot.pipeline.queue-capacity:100}")
+    private int queueCapacity;
+
+    @Value("${chatbot.tts.sentence-parallelism:3}")
+    private int sentenceTtsParallelism;
+
+    @Value("${chatbot.title.pool-size:2}")
+    private int titlePoolSize;
+
+    @Value("${chatbot.title.queue-capacity:50}")
+    private int titleQueueCapacity;
+
+    @Value("${chatbot.summary.pool-size:1}")
+    private int summaryPoolSize;
+
+    @Value("${chatbot.summary.queue-capacity:50}")
+    private int summaryQueueCapacity;
+
+    @Value("${chatbot.asr.hedge.pool-size:16}")
+    private int asrHedgePoolSize;
+
+    /**
+     * 크기가 제한된 파이프라인 전용 Executor
+     * Reactor 콜백에서도 작업을 넘기므로 큐가 가득 차면 호출 스레드에서 실행하지 않고 거절(TaskRejectedException)한다.
+     * 거절된 작업은 ChatService가 Reactor의 boundedElastic 스케줄러로 넘긴다.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor chatPipelineExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("chat-pipeline-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 문장 단위 TTS 합성 전용 Executor
+     * 풀 크기가 곧 한 번에 진행되는 TTS 호출 수의 상한이 된다.
+     * 큐가 가득 차면 거절하며, SentenceTtsPipeline이 해당 문장을 대기열에 두었다가 순서대로 합성한다.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor ttsSegmentExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(sentenceTtsParallelism);
+        executor.setMaxPoolSize(sentenceTtsParallelism);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("tts-segment-");
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 대화 제목 생성 전용 Executor
+     * 큐가 가득 차면 작업을 거절(TaskRejectedException)하여 새 세션이 몰려도 LLM 호출량이 제한된다.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor titleExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(titlePoolSize);
+        executor.setMaxPoolSize(titlePoolSize);
+        executor.setQueueCapacity(titleQueueCapacity);
+        executor.setThreadNamePrefix("chat-title-");
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 대화 요약 전용 Executor
+     * 큐가 가득 차면 작업을 거절하고, 요약은 다음 턴에 다시 시도된다.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor summaryExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(summaryPoolSize);
+        executor.setMaxPoolSize(summaryPoolSize);
+        executor.setQueueCapacity(summaryQueueCapacity);
+        executor.setThreadNamePrefix("chat-summary-");
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * ASR 요청(주 요청 + 헤징 요청) 전용 Executor
+     * 큐 없이 풀이 가득 차면 작업을 거절하며, 이때 주 요청은 호출 스레드에서 직접 실행하고 헤징은 생략한다.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor asrHedgeExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(asrHedgePoolSize);
+        executor.setMaxPoolSize(asrHedgePoolSize);
+        executor.setQueueCapacity(0);
+        executor.setThreadNamePrefix("asr-hedge-");
+        executor.initialize();
+        return executor;
+    }
+}
@@ -0,0 +1,28 @@
+package com.silverbridge.backend.config;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.orm.jpa.support.OpenEntityManagerInViewInterceptor;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Open-Session-In-View 적용 범위 설정 (spring.jpa.open-in-view: false 와 함께 사용)
+ * - OSIV는 요청이 끝날 때까지 DB 커넥션을 붙잡고 있으므로, 원격 호출(ASR/LLM/TTS)이 긴 챗봇 API에서는 제외
+ * - 그 외 API는 기존과 동일하게 OSIV 적용
+ */
+@Configuration
+@RequiredArgsConstructor
+public class JpaWebConfig implements WebMvcConfigurer {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        OpenEntityManagerInViewInterceptor interceptor = new OpenEntityManagerInViewInterceptor();
+        interceptor.setEntityManagerFactory(entityManagerFactory);
+        registry.addWebRequestInterceptor(interceptor)
+                .excludePathPatterns("/api/chatbot/**");
+    }
+}
@@ -0,0 +1,76 @@
+package com.silverbridge.backend.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.classic.methods.HttpHead;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 시작 시 외부 API 연결 미리 맺기
+ * - 목적지마다 가벼운 HEAD 요청을 보내 TCP/TLS 연결을 풀에 넣어 둠 (첫 사용자 요청의 핸드셰이크 지연 제거)
+ * - 응답 상태(401, 404 등)와 관계없이 연결만 맺으면 되므로 실패는 로그만 남김
+ * - 시작을 늦추지 않도록 백그라운드에서 실행
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OutboundConnectionPrewarmer {
+
+    private final OutboundDestinations destinations;
+    private final CloseableHttpClient outboundHttpClient;
+    private final WebClient webClient;
+
+    @Value("${http.client.prewarm-connections:2}")
+    private int connectionsPerDestination;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void prewarm() {
+        if (connectionsPerDestination <= 0) return;
+
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (OutboundDestinations.Destination d : destinations.blocking()) {
+            // 동시에 보내야 서로 다른 연결이 맺어짐
+            for (int i = 0; i < Math.min(connectionsPerDestination, d.getMaxConnections()); i++) {
+                futures.add(CompletableFuture.runAsync(() -> headBlocking(d.rootUrl())));
+            }
+        }
+        for (OutboundDestinations.Destination d : destinations.reactive()) {
+            for (int i = 0; i < Math.min(connectionsPerDestination, d.getMaxConnections()); i++) {
+                futures.add(headReactive(d.rootUrl()));
+            }
+        }
+
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]))
+                .whenComplete((v, e) -> log.info("외부 API 연결 미리 맺기 완료: destinations={}",
+                        destinations.blocking().size() + destinations.reactive().size()));
+    }
+
+    private void headBlocking(String url) {
+        try {
+            outboundHttpClient.execute(new HttpHead(url), response -> null);
+        } catch (Exception e) {
+            log.warn("연결 미리 맺기 실패: {} ({})", url, e.getMessage());
+        }
+    }
+
+    private CompletableFuture<Void> headReactive(String url) {
+        return webClient.head()
+                .uri(url)
+                .exchangeToMono(response -> response.releaseBody())
+                .onErrorResume(e -> {
+                    log.warn("연결 미리 맺기 실패: {} ({})", url, e.getMessage());
+                    return Mono.empty();
+                })
+                .toFuture();
+    }
+}
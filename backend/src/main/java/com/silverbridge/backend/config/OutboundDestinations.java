@@ -0,0 +1,141 @@
+package com.silverbridge.backend.config;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 외부 API 목적지 목록 (목적지별 연결 풀 한도 설정, 시작 시 연결 미리 맺기에 사용)
+ * - 같은 호스트를 쓰는 클라이언트(예: OpenAI TTS와 LLM)는 하나의 풀을 공유하므로 한도를 합산
+ */
+@Component
+public class OutboundDestinations {
+
+    // ASR 복제본 (AsrReplicaPool과 같은 설정)
+    @Value("${chatbot.asr.replicas.std:${chatbot.asr.std-endpoint:http://localhost:9001/asr/transcribe}}")
+    private List<String> asrStdReplicas;
+
+    @Value("${chatbot.asr.replicas.gs:${chatbot.asr.gs-endpoint:http://localhost:9002/asr/transcribe}}")
+    private List<String> asrGsReplicas;
+
+    @Value("${chatbot.asr.replicas.jl:${chatbot.asr.jl-endpoint:http://localhost:9003/asr/transcribe}}")
+    private List<String> asrJlReplicas;
+
+    @Value("${chatbot.asr.max-connections:10}")
+    private int asrMaxConnections;
+
+    @Value("${chatbot.emotion.api.endpoint}")
+    private String emotionEndpoint;
+
+    @Value("${chatbot.emotion.api.max-connections:20}")
+    private int emotionMaxConnections;
+
+    @Value("${chatbot.tts.openai.url}")
+    private String ttsUrl;
+
+    @Value("${chatbot.tts.max-connections:10}")
+    private int ttsMaxConnections;
+
+    @Value("${spring.ai.openai.base-url:https://api.openai.com}")
+    private String llmBaseUrl;
+
+    @Value("${chatbot.llm.max-connections:20}")
+    private int llmMaxConnections;
+
+    @Value("${naver.search.base-url:https://openapi.naver.com}")
+    private String naverBaseUrl;
+
+    @Value("${naver.search.max-connections:10}")
+    private int naverMaxConnections;
+
+    @Value("${kakao.token-url}")
+    private String kakaoTokenUrl;
+
+    @Value("${kakao.user-info-url}")
+    private String kakaoUserInfoUrl;
+
+    @Value("${kakao.max-connections:10}")
+    private int kakaoMaxConnections;
+
+    /**
+     * RestTemplate/RestClient(Apache HttpClient)로 호출하는 목적지 (호스트별 합산)
+     */
+    public List<Destination> blocking() {
+        Map<String, Destination> byHost = new LinkedHashMap<>();
+        for (List<String> replicas : List.of(asrStdReplicas, asrGsReplicas, asrJlReplicas)) {
+            for (String url : replicas) merge(byHost, url, asrMaxConnections);
+        }
+        merge(byHost, emotionEndpoint, emotionMaxConnections);
+        merge(byHost, ttsUrl, ttsMaxConnections);
+        merge(byHost, llmBaseUrl, llmMaxConnections);
+        merge(byHost, naverBaseUrl, naverMaxConnections);
+        return new ArrayList<>(byHost.values());
+    }
+
+    /**
+     * WebClient(Reactor Netty)로 호출하는 목적지 (카카오 로그인)
+     */
+    public List<Destination> reactive() {
+        Map<String, Destination> byHost = new LinkedHashMap<>();
+        merge(byHost, kakaoTokenUrl, kakaoMaxConnections);
+        merge(byHost, kakaoUserInfoUrl, kakaoMaxConnections);
+        return new ArrayList<>(byHost.values());
+    }
+
+    // 같은 호스트(scheme://host:port)가 여러 번 나오면 한도 합산, 단 같은 URL을 가리키는 설정(여러 지역이 공유하는 ASR 복제본)은 한 번만 반영
+    private void merge(Map<String, Destination> byHost, String url, int maxConnections) {
+        if (url == null || url.isBlank()) return;
+        URI uri = URI.create(url.trim());
+        if (uri.getHost() == null) return;
+
+        Destination destination = new Destination(uri, maxConnections);
+        Destination existing = byHost.get(destination.key());
+        if (existing == null) {
+            byHost.put(destination.key(), destination);
+        } else if (!existing.urls.contains(uri.toString())) {
+            existing.urls.add(uri.toString());
+            existing.maxConnections += maxConnections;
+        }
+    }
+
+    /**
+     * 목적지 호스트 하나 (scheme, host, port와 연결 한도)
+     */
+    @Getter
+    public static class Destination {
+        private final String scheme;
+        private final String host;
+        private final int port;
+        @Getter(AccessLevel.NONE)
+        private final List<String> urls = new ArrayList<>();
+        private int maxConnections;
+
+        Destination(URI uri, int maxConnections) {
+            this.scheme = uri.getScheme() == null ? "http" : uri.getScheme().toLowerCase();
+            this.host = uri.getHost().toLowerCase();
+            this.port = uri.getPort() != -1 ? uri.getPort() : (isSecure() ? 443 : 80);
+            this.maxConnections = maxConnections;
+            this.urls.add(uri.toString());
+        }
+
+        public boolean isSecure() {
+            return "https".equals(scheme);
+        }
+
+        // 연결 확인용 루트 URL (예: https://api.openai.com:443/)
+        public String rootUrl() {
+            return scheme + "://" + host + ":" + port + "/";
+        }
+
+        String key() {
+            return scheme + "://" + host + ":" + port;
+        }
+    }
+}
@@ -1,22 +1,152 @@
 package com.silverbridge.backend.config;
 
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.client5.http.protocol.HttpClientContext;
+import org.apache.hc.core5.http.HttpHost;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestClientCustomizer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
 /**
  * 외부 API 호출을 위한 RestTemplate 빈 등록 설정
+ * - 모든 RestTemplate이 하나의 연결 풀(Apache HttpClient)을 공유하여 keep-alive 연결을 재사용 (매 호출 TCP/TLS 핸드셰이크 생략)
+ * - 목적지 호스트별 연결 수 상한은 OutboundDestinations 설정을 따름
+ * - 응답 대기 시간(read timeout)은 클라이언트별 설정값 사용 (ASR, 감정 분석, TTS, 네이버, LLM)
  */
 @Configuration
 public class RestTemplateConfig {
 
+    @Value("${http.client.max-total:100}")
+    private int maxTotal;
+
+    @Value("${http.client.max-per-route:20}")
+    private int defaultMaxPerRoute;
+
+    @Value("${http.client.connect-timeout-ms:3000}")
+    private long connectTimeoutMs;
+
+    // 풀에 남는 연결이 없을 때 기다리는 최대 시간
+    @Value("${http.client.connection-request-timeout-ms:2000}")
+    private long connectionRequestTimeoutMs;
+
+    @Value("${http.client.read-timeout-ms:10000}")
+    private long defaultReadTimeoutMs;
+
+    // 이 시간 동안 사용하지 않은 연결은 닫음 (서버가 먼저 끊은 연결을 재사용하지 않도록)
+    @Value("${http.client.idle-timeout-seconds:30}")
+    private long idleTimeoutSeconds;
+
+    @Value("${http.client.time-to-live-seconds:300}")
+    private long timeToLiveSeconds;
+
+    @Value("${chatbot.asr.timeout-ms:20000}")
+    private long asrTimeoutMs;
+
+    @Value("${chatbot.emotion.api.timeout-ms:3000}")
+    private long emotionTimeoutMs;
+
+    @Value("${chatbot.tts.timeout-ms:20000}")
+    private long ttsTimeoutMs;
+
+    @Value("${naver.search.timeout-ms:3000}")
+    private long naverTimeoutMs;
+
+    @Value("${chatbot.llm.timeout-ms:20000}")
+    private long llmTimeoutMs;
+
+    /**
+     * 공유 연결 풀을 사용하는 HTTP 클라이언트
+     */
+    @Bean
+    public CloseableHttpClient outboundHttpClient(OutboundDestinations destinations) {
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxTotal)
+                .setMaxConnPerRoute(defaultMaxPerRoute)
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.ofMilliseconds(connectTimeoutMs))
+                        .setTimeToLive(TimeValue.ofSeconds(timeToLiveSeconds))
+                        .setValidateAfterInactivity(TimeValue.ofSeconds(Math.max(1, idleTimeoutSeconds / 2)))
+                        .build())
+                .build();
+
+        for (OutboundDestinations.Destination d : destinations.blocking()) {
+            HttpHost target = new HttpHost(d.getScheme(), d.getHost(), d.getPort());
+            connectionManager.setMaxPerRoute(new HttpRoute(target, null, d.isSecure()), d.getMaxConnections());
+        }
+
+        return HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .evictIdleConnections(TimeValue.ofSeconds(idleTimeoutSeconds))
+                .evictExpiredConnections()
+                .build();
+    }
+
     /**
-     * RestTemplate 객체를 Spring Bean으로 생성
+     * 기본 RestTemplate (별도 설정이 없는 호출용)
      *
      * @return RestTemplate 싱글톤 인스턴스
      */
     @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
+    public RestTemplate restTemplate(CloseableHttpClient outboundHttpClient) {
+        return new RestTemplate(requestFactory(outboundHttpClient, defaultReadTimeoutMs));
+    }
+
+    // ASR 서버 (음성 파일 변환은 오래 걸리므로 긴 대기 시간)
+    @Bean
+    public RestTemplate asrRestTemplate(CloseableHttpClient outboundHttpClient) {
+        return new RestTemplate(requestFactory(outboundHttpClient, asrTimeoutMs));
+    }
+
+    // 감정 분석 서버
+    @Bean
+    public RestTemplate emotionRestTemplate(CloseableHttpClient outboundHttpClient) {
+        return new RestTemplate(requestFactory(outboundHttpClient, emotionTimeoutMs));
+    }
+
+    // OpenAI TTS
+    @Bean
+    public RestTemplate ttsRestTemplate(CloseableHttpClient outboundHttpClient) {
+        return new RestTemplate(requestFactory(outboundHttpClient, ttsTimeoutMs));
+    }
+
+    // 네이버 검색
+    @Bean
+    public RestTemplate naverRestTemplate(CloseableHttpClient outboundHttpClient) {
+        return new RestTemplate(requestFactory(outboundHttpClient, naverTimeoutMs));
+    }
+
+    /**
+     * Spring AI(OpenAI 채팅/임베딩) 동기 호출도 같은 연결 풀과 LLM 대기 시간을 사용하도록 설정
+     */
+    @Bean
+    public RestClientCustomizer llmRestClientCustomizer(CloseableHttpClient outboundHttpClient) {
+        return builder -> builder.requestFactory(requestFactory(outboundHttpClient, llmTimeoutMs));
+    }
+
+    // 공유 클라이언트 + 호출별 대기 시간 설정
+    private HttpComponentsClientHttpRequestFactory requestFactory(CloseableHttpClient httpClient, long readTimeoutMs) {
+        RequestConfig requestConfig = RequestConfig.custom()
+                .setConnectionRequestTimeout(Timeout.ofMilliseconds(connectionRequestTimeoutMs))
+                .setResponseTimeout(Timeout.ofMilliseconds(readTimeoutMs))
+                .build();
+
+        HttpComponentsClientHttpRequestFactory factory = new HttpComponentsClientHttpRequestFactory(httpClient);
+        factory.setHttpContextFactory((method, uri) -> {
+            HttpClientContext context = HttpClientContext.create();
+            context.setRequestConfig(requestConfig);
+            return context;
+        });
+        return factory;
     }
-}
\ No newline at end of file
+}
@@ -55,6 +55,7 @@ public class SecurityConfig {
 								"/api/users/register-final",
 								"/api/users/social/kakao",
                                 "/api/health",
+								"/api/chatbot/audio/**", // <audio> 태그는 인증 헤더를 못 보내므로 공개, ID는 서버 비밀값 HMAC이라 문장으로 계산 불가
 								"/api/sms/**"
                         ).permitAll()
 
@@ -1,13 +1,83 @@
 package com.silverbridge.backend.config;
 
+import io.netty.channel.ChannelOption;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.reactive.function.client.WebClientCustomizer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
 
+import java.net.InetSocketAddress;
+import java.time.Duration;
+
+/**
+ * WebClient 설정 (카카오 로그인, Spring AI 스트리밍 응답)
+ * - 하나의 Reactor Netty 연결 풀을 공유하여 keep-alive 연결을 재사용
+ * - 목적지 호스트별 연결 수 상한은 OutboundDestinations 설정을 따름
+ */
 @Configuration
 public class WebClientConfig {
+
+	@Value("${http.client.max-total:100}")
+	private int maxTotal;
+
+	@Value("${http.client.connect-timeout-ms:3000}")
+	private int connectTimeoutMs;
+
+	@Value("${http.client.connection-request-timeout-ms:2000}")
+	private long connectionRequestTimeoutMs;
+
+	@Value("${http.client.idle-timeout-seconds:30}")
+	private long idleTimeoutSeconds;
+
+	@Value("${http.client.time-to-live-seconds:300}")
+	private long timeToLiveSeconds;
+
+	@Value("${kakao.timeout-ms:5000}")
+	private long kakaoTimeoutMs;
+
+	@Value("${chatbot.llm.timeout-ms:20000}")
+	private long llmTimeoutMs;
+
+	// 공유 연결 풀 (유휴/수명 초과 연결은 백그라운드에서 정리)
+	@Bean(destroyMethod = "dispose")
+	public ConnectionProvider outboundConnectionProvider(OutboundDestinations destinations) {
+		ConnectionProvider.Builder builder = ConnectionProvider.builder("outbound")
+				.maxConnections(maxTotal)
+				.pendingAcquireTimeout(Duration.ofMillis(connectionRequestTimeoutMs))
+				.maxIdleTime(Duration.ofSeconds(idleTimeoutSeconds))
+				.maxLifeTime(Duration.ofSeconds(timeToLiveSeconds))
+				.evictInBackground(Duration.ofSeconds(idleTimeoutSeconds));
+		for (OutboundDestinations.Destination d : destinations.reactive()) {
+			builder.forRemoteHost(InetSocketAddress.createUnresolved(d.getHost(), d.getPort()),
+					spec -> spec.maxConnections(d.getMaxConnections()));
+		}
+		return builder.build();
+	}
+
+	@Bean
+	public WebClient webClient(ConnectionProvider outboundConnectionProvider) {
+		return WebClient.builder()
+				.clientConnector(connector(outboundConnectionProvider, kakaoTimeoutMs))
+				.build();
+	}
+
+	/**
+	 * Spring AI 스트리밍 호출(WebClient.Builder)도 같은 연결 풀과 LLM 대기 시간을 사용하도록 설정
+	 * - 응답 대기 시간은 토큰(데이터) 사이의 최대 간격이므로 긴 스트리밍 응답도 끊기지 않음
+	 */
 	@Bean
-	public WebClient webClient() {
-		return WebClient.builder().build();
+	public WebClientCustomizer llmWebClientCustomizer(ConnectionProvider outboundConnectionProvider) {
+		return builder -> builder.clientConnector(connector(outboundConnectionProvider, llmTimeoutMs));
+	}
+
+	private ReactorClientHttpConnector connector(ConnectionProvider provider, long responseTimeoutMs) {
+		HttpClient httpClient = HttpClient.create(provider)
+				.option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectTimeoutMs)
+				.responseTimeout(Duration.ofMillis(responseTimeoutMs));
+		return new ReactorClientHttpConnector(httpClient);
 	}
 }
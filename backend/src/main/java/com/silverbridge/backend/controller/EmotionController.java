@@ -10,6 +10,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.Clock;
 import java.util.List;
 
 @Slf4j
@@ -20,6 +21,7 @@ public class EmotionController {
 
 	private final EmotionService emotionService;
 	private final UserRepository userRepository;
+	private final Clock clock;
 
 	// 당일 감정 최댓값 반환
 	@GetMapping("/today/top")
@@ -68,8 +70,9 @@ public class EmotionController {
 
 		Long userId = user.getId();
 
-		int year = java.time.LocalDate.now().getYear();
-		int month = java.time.LocalDate.now().getMonthValue();
+		java.time.LocalDate now = java.time.LocalDate.now(clock);
+		int year = now.getYear();
+		int month = now.getMonthValue();
 
 		List<EmotionCountDto> result = emotionService.getEmotionSummaryMonthly(userId, year, month);
 
@@ -86,7 +89,7 @@ public class EmotionController {
 
 		Long userId = user.getId();
 
-		java.time.LocalDate now = java.time.LocalDate.now();
+		java.time.LocalDate now = java.time.LocalDate.now(clock);
 		java.time.LocalDate prev = now.minusMonths(1);
 
 		int year = prev.getYear();
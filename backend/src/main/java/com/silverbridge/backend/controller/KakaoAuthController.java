@@ -16,6 +16,7 @@ import org.springframework.web.reactive.function.client.WebClientResponseExcepti
 public class KakaoAuthController {
 
 	private final UserService userService;
+	private final WebClient webClient; // WebClientConfig의 공유 연결 풀 사용
 
 	/*
 	 * 카카오 로그인 콜백 or 프론트에서 Access Token 전달받는 엔드포인트
@@ -45,7 +46,9 @@ public class KakaoAuthController {
 	 */
 	private KakaoProfile getKakaoUserProfile(String kakaoAccessToken) {
 		try {
-			return WebClient.create("https://kapi.kakao.com")
+			return webClient.mutate()
+					.baseUrl("https://kapi.kakao.com")
+					.build()
 					.get()
 					.uri("/v2/user/me")
 					.header("Authorization", "Bearer " + kakaoAccessToken)
@@ -0,0 +1,54 @@
+package com.silverbridge.backend.controller.chatbot;
+
+import com.silverbridge.backend.service.chatbot.TtsAudioCache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Duration;
+import java.util.regex.Pattern;
+
+/**
+ * 챗봇 음성(TTS) 파일 스트리밍 컨트롤러
+ * - ID는 음성 내용의 HMAC(서버 비밀값)이므로 내용이 바뀌지 않음 → ETag/장기 캐시 사용
+ * - 마지막 사용 후 min-retention-days 동안 제공 (디스크 절대 상한을 넘으면 그 전에 삭제될 수 있음), 삭제되면 404
+ * - Range 요청은 Spring MVC가 Resource 응답에 대해 자동으로 206(Partial Content) 처리
+ * - If-None-Match가 ETag와 같으면 Spring MVC가 304(Not Modified)로 응답
+ */
+@RestController
+@RequestMapping("/api/chatbot/audio")
+@RequiredArgsConstructor
+public class ChatAudioController {
+
+    private static final Pattern AUDIO_ID = Pattern.compile("[0-9a-f]{64}");
+    private static final MediaType AUDIO_MPEG = MediaType.valueOf("audio/mpeg");
+
+    private final TtsAudioCache ttsAudioCache;
+
+    @GetMapping("/{audioId}")
+    public ResponseEntity<Resource> audio(@PathVariable String audioId) {
+        // HMAC(hex) 형식이 아니면 파일 경로로 쓰지 않음 (경로 조작 방지)
+        if (!AUDIO_ID.matcher(audioId).matches()) {
+            return ResponseEntity.notFound().build();
+        }
+
+        Resource audio = ttsAudioCache.load(audioId);
+        if (audio == null) {
+            return ResponseEntity.notFound().build();
+        }
+
+        return ResponseEntity.ok()
+                .contentType(AUDIO_MPEG)
+                .eTag(audioId)
+                .cacheControl(CacheControl.maxAge(Duration.ofDays(1)).cachePrivate().immutable())
+                .header(HttpHeaders.ACCEPT_RANGES, "bytes")
+                .body(audio);
+    }
+}
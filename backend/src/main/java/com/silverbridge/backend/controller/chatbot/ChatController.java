@@ -14,6 +14,7 @@ import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.security.Principal;
 import java.util.List;
@@ -37,6 +38,19 @@ public class ChatController {
         return ResponseEntity.ok(chatService.handleText(userId, req));
     }
 
+    // LLM 토큰을 생성 즉시 전송하는 스트리밍(SSE) 버전
+    // sentenceAudio=true 이면 문장이 완성될 때마다 음성 조각(audio-segment)을 순서대로 전송
+    @PostMapping(value = "/text/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamText(
+            @Valid @RequestBody ChatTextRequest req,
+            @RequestParam(value = "sentenceAudio", defaultValue = "false") boolean sentenceAudio,
+            @RequestParam(value = "testUserId", required = false) Long testUserId,
+            Principal principal) {
+
+        Long userId = resolveUserId(principal, testUserId);
+        return chatService.streamText(userId, req, sentenceAudio);
+    }
+
     @PostMapping(value = "/voice", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
     public ResponseEntity<ChatVoiceResponse> sendVoice(
             @RequestParam("file") MultipartFile file,
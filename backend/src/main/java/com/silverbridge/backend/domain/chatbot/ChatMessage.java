@@ -8,7 +8,10 @@ import java.time.LocalDateTime;
 
 // 챗봇 대화의 개별 메시지를 저장하는 엔티티
 @Entity
-@Table(name = "chat_message")
+@Table(name = "chat_message", indexes = {
+        // 세션별 최근 메시지 조회용 (V7 마이그레이션과 동일)
+        @Index(name = "idx_chat_message_session_created", columnList = "session_id, created_at")
+})
 @Getter @Setter
 public class ChatMessage {
 
@@ -31,8 +34,10 @@ public class ChatMessage {
 
     // [수정] 감정 분석 결과 저장 컬럼
     // (ASSISTANT 역할은 null일 수 있으므로 nullable = true (기본값))
-    @Column(length = 32) // (감정 문자열 길이에 맞게 설정, 예: "불안", "기쁨")
-    private String emotion;
+    // 문자열 대신 TINYINT 코드로 저장 (Emotion.code, 예: 0=기쁨, 3=불안)
+    @Convert(converter = EmotionConverter.class)
+    @Column(name = "emotion_code", columnDefinition = "TINYINT")
+    private Emotion emotion;
 
     // 메시지 생성 시간
     @Column(nullable = false) // (생성 시간은 항상 있어야 하므로 nullable = false 권장)
@@ -41,9 +46,9 @@ public class ChatMessage {
     // 메시지 발신자 역할을 정의하는 Enum
     public enum Role { USER, ASSISTANT, SYSTEM }
 
-    // 엔티티 저장 전 생성 시간 자동 설정
+    // 엔티티 저장 전 생성 시간 자동 설정 (ChatService는 AppConfig의 Clock 기준으로 미리 설정)
     @PrePersist
     public void onCreate() {
-        this.createdAt = LocalDateTime.now();
+        if (this.createdAt == null) this.createdAt = LocalDateTime.now();
     }
 }
\ No newline at end of file
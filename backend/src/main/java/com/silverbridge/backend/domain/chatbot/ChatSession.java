@@ -1,5 +1,6 @@
 package com.silverbridge.backend.domain.chatbot;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
@@ -26,6 +27,15 @@ public class ChatSession {
     @Column(length = 50) // DB 컬럼 크기 제한 (필요에 따라 조절)
     private String title;
 
+    // 오래된 대화의 누적 요약 (최근 대화는 원문 그대로 프롬프트에 포함, 세션 목록 응답에는 제외)
+    @JsonIgnore
+    @Column(columnDefinition = "TEXT")
+    private String summary;
+
+    // 요약에 반영된 마지막 메시지 ID
+    @JsonIgnore
+    private Long summarizedUntilId;
+
     // 세션 생성 시간
     private LocalDateTime createdAt;
     // 세션 마지막 업데이트 시간
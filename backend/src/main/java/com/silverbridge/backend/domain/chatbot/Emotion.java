@@ -0,0 +1,63 @@
+package com.silverbridge.backend.domain.chatbot;
+
+import lombok.Getter;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 사용자 감정 (감정 분석 모델의 7개 분류)
+ * - DB(chat_message.emotion_code)에는 code(TINYINT)로 저장
+ * - 감정 분석 서버/API 응답/프롬프트에는 label(한글) 사용
+ */
+@Getter
+public enum Emotion {
+
+    JOY(0, "기쁨"),
+    SADNESS(1, "슬픔"),
+    ANGER(2, "분노"),
+    ANXIETY(3, "불안"),
+    EMBARRASSMENT(4, "당황"),
+    HURT(5, "상처"),
+    NEUTRAL(6, "중립");
+
+    private static final Emotion[] BY_CODE = new Emotion[7];
+    private static final Map<String, Emotion> BY_LABEL = new HashMap<>();
+
+    static {
+        for (Emotion e : values()) {
+            BY_CODE[e.code] = e;
+            BY_LABEL.put(e.label, e);
+        }
+        // 모델/데이터셋에 따라 다르게 나오는 라벨
+        BY_LABEL.put("행복", JOY);
+        BY_LABEL.put("공포", ANXIETY);
+        BY_LABEL.put("놀람", EMBARRASSMENT);
+        BY_LABEL.put("혐오", ANGER);
+    }
+
+    private final int code;
+    private final String label;
+
+    Emotion(int code, String label) {
+        this.code = code;
+        this.label = label;
+    }
+
+    // 코드 → 감정 (없는 코드는 null)
+    public static Emotion fromCode(Integer code) {
+        if (code == null || code < 0 || code >= BY_CODE.length) return null;
+        return BY_CODE[code];
+    }
+
+    // 한글 라벨 → 감정 ("분석실패" 등 알 수 없는 값은 null)
+    public static Emotion fromLabel(String label) {
+        if (label == null) return null;
+        return BY_LABEL.get(label.strip());
+    }
+
+    // API 응답용 라벨 (null이면 null)
+    public static String labelOf(Emotion emotion) {
+        return emotion != null ? emotion.label : null;
+    }
+}
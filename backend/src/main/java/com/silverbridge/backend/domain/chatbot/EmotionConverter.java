@@ -0,0 +1,19 @@
+package com.silverbridge.backend.domain.chatbot;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+// Emotion ↔ TINYINT 코드 변환 (ORDINAL/STRING 대신 고정 코드 사용, enum 순서가 바뀌어도 저장값 유지)
+@Converter
+public class EmotionConverter implements AttributeConverter<Emotion, Integer> {
+
+    @Override
+    public Integer convertToDatabaseColumn(Emotion emotion) {
+        return emotion != null ? emotion.getCode() : null;
+    }
+
+    @Override
+    public Emotion convertToEntityAttribute(Integer code) {
+        return Emotion.fromCode(code);
+    }
+}
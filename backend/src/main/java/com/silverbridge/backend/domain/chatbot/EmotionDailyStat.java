@@ -0,0 +1,37 @@
+package com.silverbridge.backend.domain.chatbot;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+// 사용자별 일자별 감정 집계 (보호자 대시보드의 주간/월간 요약용, 사용자 메시지 저장 시 증분 갱신)
+@Entity
+@Table(name = "emotion_daily_stats", uniqueConstraints = {
+        // 증분 갱신(INSERT ... ON DUPLICATE KEY UPDATE)과 기간 조회에 사용 (V6 마이그레이션과 동일)
+        @UniqueConstraint(name = "uk_emotion_daily_stats_user_day_emotion", columnNames = {"user_id", "day", "emotion_code"})
+})
+@Getter
+public class EmotionDailyStat {
+
+    // 집계 행 고유 식별자 (PK)
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // 사용자 ID (chat_session.user_id)
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    // 메시지 작성일
+    @Column(nullable = false)
+    private LocalDate day;
+
+    // 감정 코드 (Emotion.code)
+    @Convert(converter = EmotionConverter.class)
+    @Column(name = "emotion_code", columnDefinition = "TINYINT", nullable = false)
+    private Emotion emotion;
+
+    // 해당 일자/감정의 사용자 메시지 수
+    @Column(nullable = false)
+    private long cnt;
+}
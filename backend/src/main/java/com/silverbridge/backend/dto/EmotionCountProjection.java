@@ -1,6 +1,7 @@
 package com.silverbridge.backend.dto;
 
 public interface EmotionCountProjection {
-	String getEmotion();
+	// chat_message.emotion_code (Emotion.code)
+	Integer getEmotionCode();
 	Long getCnt();
 }
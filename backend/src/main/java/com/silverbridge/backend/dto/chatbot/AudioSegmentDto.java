@@ -0,0 +1,20 @@
+package com.silverbridge.backend.dto.chatbot;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 문장 단위로 합성된 음성 조각 DTO (스트리밍 응답의 audio-segment 이벤트)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AudioSegmentDto {
+
+    // 답변 내 문장 순번 (0부터 시작, 이 순서대로 재생)
+    private int index;
+
+    // 해당 문장의 음성 URL
+    private String audioUrl;
+}
@@ -0,0 +1,30 @@
+package com.silverbridge.backend.dto.chatbot;
+
+import java.util.List;
+
+/**
+ * 감정 분석 서버 일괄 요청용 DTO ({"texts": [...]})
+ * 여러 문장을 한 번에 보내 서버에서 묶음 추론(batch inference)하도록 함
+ */
+public class EmotionBatchRequest {
+
+    private List<String> texts;
+
+    // Jackson(JSON 파서)이 사용하기 위한 기본 생성자
+    public EmotionBatchRequest() {
+    }
+
+    public EmotionBatchRequest(List<String> texts) {
+        this.texts = texts;
+    }
+
+    // getter
+    public List<String> getTexts() {
+        return texts;
+    }
+
+    // setter
+    public void setTexts(List<String> texts) {
+        this.texts = texts;
+    }
+}
@@ -0,0 +1,30 @@
+package com.silverbridge.backend.dto.chatbot;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+import java.util.List;
+
+/**
+ * 감정 분석 서버 일괄 응답용 DTO ({"emotions": [...]})
+ * 요청한 texts와 같은 순서로 감정 목록을 받음
+ */
+// DTO에 정의되지 않은 JSON 속성은 무시
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class EmotionBatchResponse {
+
+    private List<String> emotions;
+
+    // Jackson(JSON 파서)이 사용하기 위한 기본 생성자
+    public EmotionBatchResponse() {
+    }
+
+    // getter
+    public List<String> getEmotions() {
+        return emotions;
+    }
+
+    // setter
+    public void setEmotions(List<String> emotions) {
+        this.emotions = emotions;
+    }
+}
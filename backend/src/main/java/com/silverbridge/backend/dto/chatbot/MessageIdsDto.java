@@ -0,0 +1,20 @@
+package com.silverbridge.backend.dto.chatbot;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 스트리밍 응답에서 저장된 메시지 ID를 전달하기 위한 DTO
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MessageIdsDto {
+
+    // 저장된 사용자 메시지 ID
+    private Long userMessageId;
+
+    // 저장된 챗봇 답변 메시지 ID
+    private Long assistantMessageId;
+}
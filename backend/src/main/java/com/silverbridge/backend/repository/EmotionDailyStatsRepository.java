@@ -0,0 +1,78 @@
+package com.silverbridge.backend.repository;
+
+import com.silverbridge.backend.domain.chatbot.EmotionDailyStat;
+import com.silverbridge.backend.dto.EmotionCountProjection;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+
+// 일자별 감정 집계 (emotion_daily_stats)
+public interface EmotionDailyStatsRepository extends JpaRepository<EmotionDailyStat, Long> {
+
+	// 사용자 메시지 1건 반영 (해당 일자/감정 행이 없으면 생성, 있으면 +1)
+	@Transactional
+	@Modifying
+	@Query(value = """
+		INSERT INTO emotion_daily_stats (user_id, day, emotion_code, cnt)
+		VALUES (:userId, :day, :emotionCode, 1)
+		ON DUPLICATE KEY UPDATE cnt = cnt + 1
+		""", nativeQuery = true)
+	int increment(
+			@Param("userId") Long userId,
+			@Param("day") LocalDate day,
+			@Param("emotionCode") int emotionCode
+	);
+
+	// 기간 내 감정별 합계 (사용자/일자 유니크 키 범위 조회)
+	@Query(value = """
+		SELECT 
+			emotion_code AS emotionCode,
+			SUM(cnt) AS cnt
+		FROM emotion_daily_stats
+		WHERE user_id = :userId
+		  AND day BETWEEN :startDay AND :endDay
+		GROUP BY emotion_code
+		""", nativeQuery = true)
+	List<EmotionCountProjection> sumByEmotion(
+			@Param("userId") Long userId,
+			@Param("startDay") LocalDate startDay,
+			@Param("endDay") LocalDate endDay
+	);
+
+	// 재계산 1단계: 기간 내 집계 삭제
+	@Modifying
+	@Query(value = "DELETE FROM emotion_daily_stats WHERE day BETWEEN :startDay AND :endDay", nativeQuery = true)
+	int deleteDays(
+			@Param("startDay") LocalDate startDay,
+			@Param("endDay") LocalDate endDay
+	);
+
+	// 재계산 2단계: chat_message에서 기간 내 사용자 메시지를 다시 집계
+	@Modifying
+	@Query(value = """
+		INSERT INTO emotion_daily_stats (user_id, day, emotion_code, cnt)
+		SELECT 
+			cs.user_id,
+			DATE(cm.created_at),
+			cm.emotion_code,
+			COUNT(*)
+		FROM chat_message cm
+		JOIN chat_session cs 
+			ON cm.session_id = cs.id
+		WHERE cm.created_at >= :startDay
+		  AND cm.created_at < :endDay + INTERVAL 1 DAY
+		  AND cm.role = 'USER'
+		  AND cm.emotion_code IS NOT NULL
+		  AND cs.user_id IS NOT NULL
+		GROUP BY cs.user_id, DATE(cm.created_at), cm.emotion_code
+		""", nativeQuery = true)
+	int insertDays(
+			@Param("startDay") LocalDate startDay,
+			@Param("endDay") LocalDate endDay
+	);
+}
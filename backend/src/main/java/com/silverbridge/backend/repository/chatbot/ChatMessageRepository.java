@@ -1,12 +1,18 @@
 package com.silverbridge.backend.repository.chatbot;
 
 import com.silverbridge.backend.domain.chatbot.ChatMessage;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import java.util.List;
+import java.util.Optional;
 
 // ChatMessage 엔티티에 대한 데이터베이스 작업을 위한 레포지토리
 public interface ChatMessageRepository extends JpaRepository<ChatMessage, Long> {
     // 특정 세션 ID에 해당하는 최근 메시지 50개 조회
     List<ChatMessage> findTop50BySessionIdOrderByCreatedAtDesc(Long sessionId);
+    // 특정 세션에서 주어진 ID 이후의 메시지를 오래된 순으로 최대 pageable 크기만큼 조회 (대화 요약 대상)
+    List<ChatMessage> findBySessionIdAndIdGreaterThanOrderByIdAsc(Long sessionId, Long id, Pageable pageable);
+    // 가장 오래된 메시지 (감정 집계 최초 이관 범위)
+    Optional<ChatMessage> findFirstByOrderByIdAsc();
 }
\ No newline at end of file
@@ -2,6 +2,10 @@ package com.silverbridge.backend.repository.chatbot;
 
 import com.silverbridge.backend.domain.chatbot.ChatSession;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
@@ -12,4 +16,10 @@ public interface ChatSessionRepository extends JpaRepository<ChatSession, Long>
     Optional<ChatSession> findFirstByUserIdOrderByUpdatedAtDesc(Long userId);
     // 특정 사용자의 모든 세션을 생성 시간순으로 조회
     List<ChatSession> findByUserIdOrderByCreatedAtDesc(Long userId);
+
+    // 대화 요약만 갱신 (세션 전체를 덮어쓰지 않도록 해당 컬럼만 UPDATE)
+    @Transactional
+    @Modifying
+    @Query("update ChatSession s set s.summary = :summary, s.summarizedUntilId = :untilId where s.id = :sessionId")
+    int updateSummary(@Param("sessionId") Long sessionId, @Param("summary") String summary, @Param("untilId") Long untilId);
 }
\ No newline at end of file
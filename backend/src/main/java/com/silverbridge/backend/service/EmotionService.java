@@ -1,14 +1,15 @@
 package com.silverbridge.backend.service;
 
+import com.silverbridge.backend.domain.chatbot.Emotion;
 import com.silverbridge.backend.dto.EmotionCountDto;
 import com.silverbridge.backend.dto.EmotionCountProjection;
-import com.silverbridge.backend.repository.EmotionRepository;
+import com.silverbridge.backend.repository.EmotionDailyStatsRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.time.Clock;
 import java.time.DayOfWeek;
 import java.time.LocalDate;
-import java.time.LocalDateTime;
 import java.util.Comparator;
 import java.util.List;
 
@@ -16,12 +17,16 @@ import java.util.List;
 @RequiredArgsConstructor
 public class EmotionService {
 
-	private final EmotionRepository emotionRepository;
+	// 당일/주간/월간 요약은 일자별 집계 테이블에서 조회 (EmotionStatsService가 갱신)
+	private final EmotionDailyStatsRepository statsRepository;
+
+	// 집계 일자 기준 시계 (AppConfig, EmotionStatsService와 동일)
+	private final Clock clock;
 
 	// 최근 1주 감정 요약
 	public List<EmotionCountDto> getLastWeekEmotionSummary(Long userId) {
 
-		LocalDate today = LocalDate.now();
+		LocalDate today = LocalDate.now(clock);
 
 		// 이번 주 월요일
 		LocalDate thisWeekMonday = today.with(DayOfWeek.MONDAY);
@@ -32,12 +37,9 @@ public class EmotionService {
 		// 지난 주 일요일
 		LocalDate lastWeekSunday = thisWeekMonday.minusDays(1);
 
-		LocalDateTime start = lastWeekMonday.atStartOfDay();
-		LocalDateTime end = lastWeekSunday.atTime(23, 59, 59);
-
-		return emotionRepository.getEmotionSummaryNative(userId, start, end)
+		return statsRepository.sumByEmotion(userId, lastWeekMonday, lastWeekSunday)
 				.stream()
-				.map(p -> new EmotionCountDto(p.getEmotion(), p.getCnt()))
+				.map(this::toDto)
 				.toList();
 	}
 
@@ -45,26 +47,21 @@ public class EmotionService {
 	// 특정 월의 감정 요약
 	public List<EmotionCountDto> getEmotionSummaryMonthly(Long userId, int year, int month) {
 
-		LocalDateTime start = LocalDateTime.of(year, month, 1, 0, 0);
-		LocalDateTime end = start.plusMonths(1).minusSeconds(1);
+		LocalDate start = LocalDate.of(year, month, 1);
+		LocalDate end = start.plusMonths(1).minusDays(1);
 
-		return emotionRepository.getEmotionSummaryNative(userId, start, end)
+		return statsRepository.sumByEmotion(userId, start, end)
 				.stream()
-				.map(p -> new EmotionCountDto(
-						p.getEmotion(),
-						p.getCnt()
-				))
+				.map(this::toDto)
 				.toList();
 	}
 
+	// 오늘(00시부터 지금까지)의 최다 감정 (오늘 행은 메시지 저장 시 증분 갱신됨)
 	public EmotionCountDto getTodayTopEmotion(Long userId) {
 
-		LocalDate today = LocalDate.now();
-		LocalDateTime startOfDay = today.atStartOfDay();           // 00:00
-		LocalDateTime sixPM = today.atTime(18, 0, 0);              // 18:00
+		LocalDate today = LocalDate.now(clock);
 
-		List<EmotionCountProjection> result =
-				emotionRepository.getEmotionSummaryNative(userId, startOfDay, sixPM);
+		List<EmotionCountProjection> result = statsRepository.sumByEmotion(userId, today, today);
 
 		if (result.isEmpty()) {
 			return new EmotionCountDto("none", 0L);
@@ -74,7 +71,12 @@ public class EmotionService {
 				.max(Comparator.comparingLong(EmotionCountProjection::getCnt))
 				.get();
 
-		return new EmotionCountDto(top.getEmotion(), top.getCnt());
+		return toDto(top);
+	}
+
+	// 감정 코드 → API 응답용 라벨 ("기쁨", "슬픔" 등)
+	private EmotionCountDto toDto(EmotionCountProjection p) {
+		return new EmotionCountDto(Emotion.labelOf(Emotion.fromCode(p.getEmotionCode())), p.getCnt());
 	}
 
 
@@ -0,0 +1,75 @@
+package com.silverbridge.backend.service;
+
+import com.silverbridge.backend.domain.chatbot.Emotion;
+import com.silverbridge.backend.repository.EmotionDailyStatsRepository;
+import com.silverbridge.backend.repository.chatbot.ChatMessageRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 일자별 감정 집계(emotion_daily_stats) 관리
+ * - 사용자 메시지 저장 시 해당 일자/감정 행 +1 (실패해도 대화는 계속, 재계산으로 보정)
+ * - 매일 새벽 지난 rebuild-days일을 chat_message 기준으로 재계산 (누락/중복 보정)
+ * - 시작 시 집계 테이블이 비어 있으면 전체 기간 이관
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class EmotionStatsService {
+
+	private final EmotionDailyStatsRepository statsRepository;
+	private final ChatMessageRepository messageRepository;
+	private final TransactionTemplate transactionTemplate;
+	private final Clock clock;
+
+	// 새벽 재계산 대상 일수 (어제부터 거슬러 올라감)
+	@Value("${chatbot.emotion.stats.rebuild-days:2}")
+	private int rebuildDays;
+
+	// 사용자 메시지 1건 반영
+	public void record(Long userId, LocalDateTime createdAt, Emotion emotion) {
+		if (userId == null || createdAt == null || emotion == null) return;
+		try {
+			statsRepository.increment(userId, createdAt.toLocalDate(), emotion.getCode());
+		} catch (RuntimeException e) {
+			log.warn("감정 집계 반영 실패 (재계산 시 보정): userId={}, {}", userId, e.toString());
+		}
+	}
+
+	// 지난 며칠 재계산 (진행 중인 오늘은 증분 갱신만 사용)
+	@Scheduled(cron = "${chatbot.emotion.stats.rebuild-cron:0 30 3 * * *}")
+	public void rebuildRecent() {
+		LocalDate yesterday = LocalDate.now(clock).minusDays(1);
+		rebuild(yesterday.minusDays(Math.max(1, rebuildDays) - 1L), yesterday);
+	}
+
+	// 집계 테이블이 비어 있으면 가장 오래된 메시지부터 오늘까지 이관
+	@EventListener(ApplicationReadyEvent.class)
+	public void backfillIfEmpty() {
+		if (statsRepository.count() > 0) return;
+		messageRepository.findFirstByOrderByIdAsc().ifPresent(first ->
+				rebuild(first.getCreatedAt().toLocalDate(), LocalDate.now(clock)));
+	}
+
+	/**
+	 * 기간 내 집계를 chat_message 기준으로 다시 계산 (삭제 + 재집계를 한 트랜잭션으로)
+	 */
+	public void rebuild(LocalDate startDay, LocalDate endDay) {
+		long startedAt = System.currentTimeMillis();
+		Integer rows = transactionTemplate.execute(status -> {
+			statsRepository.deleteDays(startDay, endDay);
+			return statsRepository.insertDays(startDay, endDay);
+		});
+		log.info("감정 집계 재계산: {} ~ {}, rows={}, {}ms", startDay, endDay, rows, System.currentTimeMillis() - startedAt);
+	}
+}
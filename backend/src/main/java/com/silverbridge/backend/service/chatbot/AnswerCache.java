@@ -0,0 +1,215 @@
+package com.silverbridge.backend.service.chatbot;
+
+import com.silverbridge.backend.domain.chatbot.Emotion;
+import com.silverbridge.backend.dto.chatbot.SearchResDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 정보 안내 답변 캐시 (의미 유사도 기반)
+ * - "기초연금 얼마 받아요?", "기초연금 금액이 얼마예요?"처럼 표현만 다른 같은 질문에 LLM 호출 없이 이전 답변 재사용
+ * - 키: (지역, 감정, 질문 임베딩) → 같은 지역/감정에서 유사도가 기준 이상인 질문이 있으면 적중
+ * - 이전 대화/요약 없이 만든 답변만 저장하고 조회함 (호출하는 쪽에서 contextFree로 전달, 다른 사용자의 대화 맥락이 섞이지 않게 함)
+ * - 답변을 만들 때 사용한 참고 자료가 바뀌었으면(검색 결과 변경) 적중하지 않고 해당 항목 제거
+ * - 의미 임베딩이 필요하므로 기본값은 chatbot.embedding.provider가 openai일 때만 사용
+ * - 참고 자료가 있는 정보 질문에만 사용하며, 명령/일정 발화나 짧은 되묻기("그건 얼마예요?")는 캐시하지 않음
+ * - 메트릭: chatbot.answer.cache.requests{result=hit|miss|stale}, chatbot.answer.cache.saved, chatbot.answer.cache.size
+ */
+@Component
+@RequiredArgsConstructor
+public class AnswerCache {
+
+    private final EmbeddingClient embeddingClient;
+    private final KoreanTemporalParser temporalParser;
+    private final MeterRegistry meterRegistry;
+
+    // 미설정 시 의미 임베딩(openai)에서만 사용
+    // (local 해싱 임베딩은 글자 겹침만 보므로 "기초연금 신청 방법"과 "장애연금 신청 방법"도 같은 질문으로 봄)
+    @Value("${chatbot.answer-cache.enabled:#{'${chatbot.embedding.provider:local}' == 'openai'}}")
+    private boolean enabled;
+
+    // 같은 질문으로 볼 유사도 기준 (임베딩 모델에 맞게 조정)
+    @Value("${chatbot.answer-cache.min-similarity:0.9}")
+    private double minSimilarity;
+
+    @Value("${chatbot.answer-cache.ttl-seconds:21600}")
+    private long ttlSeconds;
+
+    @Value("${chatbot.answer-cache.max-entries:500}")
+    private int maxEntries;
+
+    // 이보다 짧은 질문은 앞 대화에 의존하는 경우가 많으므로 캐시하지 않음 (글자 2-gram 수 기준)
+    @Value("${chatbot.answer-cache.min-question-terms:4}")
+    private int minQuestionTerms;
+
+    // 접근 순서 기반 LinkedHashMap (항목 수가 적으므로 조회는 전체 비교)
+    private final LinkedHashMap<Long, Entry> entries = new LinkedHashMap<>(64, 0.75f, true);
+    private long nextId = 0;
+
+    private Counter hits;
+    private Counter misses;
+    private Counter stale;
+    private Timer saved;
+
+    @PostConstruct
+    public void init() {
+        hits = Counter.builder("chatbot.answer.cache.requests").tag("result", "hit").register(meterRegistry);
+        misses = Counter.builder("chatbot.answer.cache.requests").tag("result", "miss").register(meterRegistry);
+        stale = Counter.builder("chatbot.answer.cache.requests").tag("result", "stale").register(meterRegistry);
+        // 적중 시 생략된 LLM 호출 시간 (원래 답변 생성에 걸린 시간)
+        saved = Timer.builder("chatbot.answer.cache.saved").register(meterRegistry);
+        Gauge.builder("chatbot.answer.cache.size", this, c -> c.size()).register(meterRegistry);
+    }
+
+    /**
+     * 캐시 대상 질문인지 확인 (대화 맥락 없이 참고 자료만으로 답하는 정보 질문만)
+     */
+    public boolean isCacheable(boolean contextFree, String question, List<SearchResDto> references) {
+        if (!enabled || !contextFree || references == null || references.isEmpty() || question == null) return false;
+        if (WelfareIndex.tokenize(question).size() < minQuestionTerms) return false;
+        // 날짜/시간이 들어간 발화는 개인 일정에 관한 것이므로 제외
+        return temporalParser.parse(question) == null;
+    }
+
+    /**
+     * 유사한 질문의 답변 조회
+     *
+     * @param contextFree 이번 답변의 프롬프트에 이전 대화/요약이 없는지 여부
+     * @return 캐시된 답변, 없거나 참고 자료가 바뀌었으면 null
+     */
+    public String find(String regionCode, Emotion emotion, boolean contextFree, String question, List<SearchResDto> references) {
+        if (!isCacheable(contextFree, question, references)) return null;
+
+        float[] vector = embeddingClient.embed(question);
+        String region = normalizeRegion(regionCode);
+        long now = System.currentTimeMillis();
+
+        synchronized (entries) {
+            Long bestId = null;
+            double bestSimilarity = minSimilarity;
+            for (Map.Entry<Long, Entry> e : entries.entrySet()) {
+                Entry entry = e.getValue();
+                if (!entry.region.equals(region) || entry.emotion != emotion || entry.expiresAt <= now) continue;
+                double similarity = dot(vector, entry.vector);
+                if (similarity >= bestSimilarity) {
+                    bestSimilarity = similarity;
+                    bestId = e.getKey();
+                }
+            }
+
+            if (bestId == null) {
+                misses.increment();
+                return null;
+            }
+
+            Entry best = entries.get(bestId);
+            if (best.referencesHash != fingerprint(references)) {
+                // 근거 자료가 바뀌었으므로 이전 답변은 더 이상 유효하지 않음
+                entries.remove(bestId);
+                stale.increment();
+                return null;
+            }
+
+            hits.increment();
+            saved.record(Duration.ofMillis(best.generationMillis));
+            return best.answer;
+        }
+    }
+
+    /**
+     * 새로 생성한 답변 저장
+     *
+     * @param contextFree      답변 프롬프트에 이전 대화/요약이 없었는지 여부 (있었으면 저장하지 않음)
+     * @param generationMillis 답변 생성(LLM 호출)에 걸린 시간
+     */
+    public void put(String regionCode, Emotion emotion, boolean contextFree, String question, List<SearchResDto> references,
+                    String answer, long generationMillis) {
+        if (!isCacheable(contextFree, question, references)) return;
+        if (answer == null || answer.isBlank() || LlmClient.ERROR_REPLY.equals(answer)) return;
+
+        Entry entry = new Entry(normalizeRegion(regionCode), emotion, embeddingClient.embed(question), fingerprint(references),
+                answer, generationMillis, System.currentTimeMillis() + ttlSeconds * 1000);
+        synchronized (entries) {
+            entries.put(nextId++, entry);
+            // 한도를 넘으면 가장 오래 사용하지 않은 항목부터 제거
+            Iterator<Long> it = entries.keySet().iterator();
+            while (entries.size() > maxEntries && it.hasNext()) {
+                it.next();
+                it.remove();
+            }
+        }
+    }
+
+    // 만료된 항목 정리
+    @Scheduled(fixedDelayString = "${chatbot.answer-cache.sweep-interval-ms:60000}")
+    public void evictExpired() {
+        long now = System.currentTimeMillis();
+        synchronized (entries) {
+            entries.values().removeIf(e -> e.expiresAt <= now);
+        }
+    }
+
+    private int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    // 참고 자료 목록의 지문 (제목/링크/내용이 하나라도 바뀌면 달라짐)
+    private static int fingerprint(List<SearchResDto> references) {
+        int hash = 1;
+        for (SearchResDto r : references) {
+            hash = 31 * hash + Objects.hash(r.getTitle(), r.getLink(), r.getDescription());
+        }
+        return hash;
+    }
+
+    private static String normalizeRegion(String regionCode) {
+        return regionCode == null ? "std" : regionCode.toLowerCase();
+    }
+
+    // 임베딩은 L2 정규화되어 있으므로 내적 = 코사인 유사도
+    private static double dot(float[] a, float[] b) {
+        double sum = 0;
+        for (int i = 0; i < a.length; i++) sum += a[i] * b[i];
+        return sum;
+    }
+
+    /**
+     * 캐시 항목 (불변)
+     */
+    private static class Entry {
+        final String region;
+        // 프롬프트의 감정 지침이 답변 어조를 바꾸므로 키에 포함
+        final Emotion emotion;
+        final float[] vector;
+        final int referencesHash;
+        final String answer;
+        final long generationMillis;
+        final long expiresAt;
+
+        Entry(String region, Emotion emotion, float[] vector, int referencesHash, String answer, long generationMillis, long expiresAt) {
+            this.region = region;
+            this.emotion = emotion;
+            this.vector = vector;
+            this.referencesHash = referencesHash;
+            this.answer = answer;
+            this.generationMillis = generationMillis;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -1,43 +1,140 @@
 package com.silverbridge.backend.service.chatbot;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
-import org.springframework.beans.factory.annotation.Value;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.http.*;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Component;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
 // 음성 인식(ASR) 서버 API 호출을 위한 클라이언트
+// - 지역(방언)별 복제본 중 AsrReplicaPool이 고른 복제본으로 요청
+// - 관측된 p95 안에 응답이 없으면 다른 복제본에 같은 요청을 한 번 더 보내고(헤징) 먼저 온 결과 사용
+// - 메트릭: asr.hedge.requests{result=sent|won}
+@Slf4j
 @Component
 @RequiredArgsConstructor
 public class AsrClient {
 
-    // 표준어 ASR 모델 엔드포인트
-    @Value("${chatbot.asr.std-endpoint:http://localhost:9001/asr/transcribe}")
-    private String stdEndpoint;
+    // 복제본 선택, 응답 시간 통계, 상태 확인
+    private final AsrReplicaPool replicaPool;
+
+    // HTTP 통신을 위한 RestTemplate (RestTemplateConfig의 공유 연결 풀, chatbot.asr.timeout-ms 적용)
+    private final RestTemplate asrRestTemplate;
+
+    // 주 요청/헤징 요청 실행 (ChatPipelineConfig)
+    private final ThreadPoolTaskExecutor asrHedgeExecutor;
+
+    // 동시 호출 제한 + 서킷 브레이커
+    private final DependencyGuards dependencyGuards;
+
+    private final MeterRegistry meterRegistry;
 
-    // 경상도 ASR 모델 엔드포인트
-    @Value("${chatbot.asr.gs-endpoint:http://localhost:9002/asr/transcribe}")
-    private String gsEndpoint;
+    // 호출 실패/차단 시 대체 문구
+    private static final String FAILURE_TEXT = "ASR 호출 중 오류 발생";
 
-    // 전라도 ASR 모델 엔드포인트
-    @Value("${chatbot.asr.jl-endpoint:http://localhost:9003/asr/transcribe}")
-    private String jlEndpoint;
+    private Counter hedgesSent;
+    private Counter hedgesWon;
 
-    // HTTP 통신을 위한 RestTemplate
-    private final RestTemplate restTemplate = new RestTemplate();
+    @PostConstruct
+    public void init() {
+        hedgesSent = Counter.builder("asr.hedge.requests").tag("result", "sent").register(meterRegistry);
+        hedgesWon = Counter.builder("asr.hedge.requests").tag("result", "won").register(meterRegistry);
+    }
 
     // 음성 파일을 ASR 서버로 보내 텍스트로 변환
     public String transcribe(String regionCode, MultipartFile file) {
-        // 지역 코드에 맞는 ASR 서버 엔드포인트 선택
-        String endpoint = pickEndpoint(regionCode);
+        // 같은 음성을 여러 복제본에 보낼 수 있도록 한 번만 읽어 둠
+        AudioResource audio;
+        try {
+            audio = new AudioResource(file.getBytes(), file.getOriginalFilename());
+        } catch (IOException e) {
+            log.warn("음성 파일 읽기 실패 ({}): {}", file.getOriginalFilename(), e.getMessage());
+            return FAILURE_TEXT;
+        }
+
+        return dependencyGuards.get(DependencyGuards.ASR).call(() -> transcribeHedged(regionCode, audio), () -> FAILURE_TEXT);
+    }
+
+    private String transcribeHedged(String regionCode, AudioResource audio) {
+        List<AsrReplicaPool.Replica> replicas = replicaPool.pick(regionCode);
+
+        // 1. 주 복제본에 요청 (풀이 가득 차면 헤징 없이 직접 호출)
+        CompletableFuture<String> primary = submit(replicas.get(0), regionCode, audio);
+        if (primary == null) {
+            return send(replicas.get(0), regionCode, audio);
+        }
+        if (replicas.size() < 2) {
+            return await(primary);
+        }
+
+        // 2. p95 안에 응답이 오면 그대로 사용, 늦어지거나 바로 실패하면 다른 복제본에도 요청
+        try {
+            return primary.get(replicaPool.hedgeDelayMs(regionCode), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException | ExecutionException e) {
+            // 헤징 진행
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("ASR 요청 대기 중 중단", e);
+        }
+
+        CompletableFuture<String> hedge = submit(replicas.get(1), regionCode, audio);
+        if (hedge == null) {
+            return await(primary);
+        }
+        hedgesSent.increment();
+
+        // 3. 둘 중 먼저 성공한 결과 사용 (둘 다 실패하면 마지막 오류)
+        CompletableFuture<String> winner = new CompletableFuture<>();
+        AtomicInteger remaining = new AtomicInteger(2);
+        primary.whenComplete((text, e) -> complete(winner, remaining, text, e, false));
+        hedge.whenComplete((text, e) -> complete(winner, remaining, text, e, true));
+        return await(winner);
+    }
+
+    private void complete(CompletableFuture<String> winner, AtomicInteger remaining, String text, Throwable e, boolean isHedge) {
+        if (e == null) {
+            if (winner.complete(text) && isHedge) hedgesWon.increment();
+        } else if (remaining.decrementAndGet() == 0) {
+            winner.completeExceptionally(e);
+        }
+    }
+
+    // Executor에 요청 제출 (풀이 가득 차면 null)
+    private CompletableFuture<String> submit(AsrReplicaPool.Replica replica, String regionCode, AudioResource audio) {
+        try {
+            return CompletableFuture.supplyAsync(() -> send(replica, regionCode, audio), asrHedgeExecutor);
+        } catch (TaskRejectedException e) {
+            return null;
+        }
+    }
 
+    // 복제본 하나에 요청 (실패 시 예외)
+    private String send(AsrReplicaPool.Replica replica, String regionCode, AudioResource audio) {
+        replicaPool.begin(replica);
+        long startedAt = System.nanoTime();
+        boolean success = false;
         try {
             // form-data 형식으로 요청 본문 구성
             MultiValueMap<String, Object> body = new LinkedMultiValueMap<>();
-            body.add("file", new MultipartInputResource(file));
+            body.add("file", audio);
 
             // multipart/form-data 헤더 설정
             HttpHeaders headers = new HttpHeaders();
@@ -47,25 +144,26 @@ public class AsrClient {
 
             // ASR 서버에 POST 요청 전송
             ResponseEntity<String> response =
-                    restTemplate.postForEntity(endpoint, requestEntity, String.class);
+                    asrRestTemplate.postForEntity(replica.getUrl(), requestEntity, String.class);
 
             // 응답 성공 시, JSON에서 텍스트 추출 후 반환
             if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
+                success = true;
                 return parseJsonText(response.getBody());
-            } else {
-                return "ASR 호출 실패: " + response.getStatusCode();
             }
-        } catch (Exception e) {
-            e.printStackTrace();
-            return "ASR 호출 중 오류 발생";
+            throw new IllegalStateException("ASR 호출 실패: " + response.getStatusCode());
+        } finally {
+            replicaPool.end(replica, regionCode, (System.nanoTime() - startedAt) / 1_000_000, success);
         }
     }
 
-    // 지역 코드에 따라 적절한 엔드포인트 URL 반환
-    private String pickEndpoint(String regionCode) {
-        if ("gs".equalsIgnoreCase(regionCode)) return gsEndpoint;
-        if ("jl".equalsIgnoreCase(regionCode)) return jlEndpoint;
-        return stdEndpoint;
+    private String await(CompletableFuture<String> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) throw cause;
+            throw e;
+        }
     }
 
     // ASR 서버의 JSON 응답에서 "text" 필드 값 추출
@@ -81,32 +179,18 @@ public class AsrClient {
         return body;
     }
 
-    // RestTemplate으로 MultipartFile을 보내기 위한 Resource 래퍼 클래스
-    static class MultipartInputResource extends org.springframework.core.io.AbstractResource {
-        private final MultipartFile file;
+    // 메모리에 읽어 둔 음성 파일 (여러 요청에서 재사용 가능, multipart 파일명 유지)
+    static class AudioResource extends ByteArrayResource {
+        private final String filename;
 
-        MultipartInputResource(MultipartFile file) {
-            this.file = file;
-        }
-
-        @Override
-        public String getDescription() {
-            return "Multipart resource for " + file.getOriginalFilename();
-        }
-
-        @Override
-        public java.io.InputStream getInputStream() throws java.io.IOException {
-            return file.getInputStream();
+        AudioResource(byte[] bytes, String filename) {
+            super(bytes);
+            this.filename = filename;
         }
 
         @Override
         public String getFilename() {
-            return file.getOriginalFilename();
-        }
-
-        @Override
-        public long contentLength() throws java.io.IOException {
-            return file.getSize();
+            return filename != null ? filename : "audio";
         }
     }
-}
\ No newline at end of file
+}
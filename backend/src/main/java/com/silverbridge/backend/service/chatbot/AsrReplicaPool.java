@@ -0,0 +1,291 @@
+package com.silverbridge.backend.service.chatbot;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.classic.methods.HttpGet;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 지역(방언)별 ASR 복제본 목록과 상태 관리
+ * - 선택: 정상 복제본 중에서 응답 시간(EWMA)이 짧고 처리 중인 요청이 적을수록 높은 확률로 선택 (가중 랜덤)
+ * - 헤징 기준: 지역별 최근 응답 시간의 p95 (표본이 적으면 기본값)
+ * - 상태 확인: 주기적으로 health-path에 GET 요청, 연속 실패 시 선택 대상에서 제외 (실제 요청 실패도 반영)
+ * - 같은 URL을 여러 지역이 쓰면 같은 복제본으로 취급하여 상태를 공유
+ * - 메트릭: asr.replica.latency{replica,outcome}, asr.replica.healthy{replica}, asr.hedge.delay{region}
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AsrReplicaPool {
+
+    private static final String[] REGIONS = {"std", "gs", "jl"};
+    // p95 계산에 필요한 최소 표본 수
+    private static final int MIN_SAMPLES = 20;
+    private static final double EWMA_ALPHA = 0.2;
+
+    private final CloseableHttpClient outboundHttpClient;
+    private final MeterRegistry meterRegistry;
+
+    // 지역별 복제본 (쉼표 구분, 없으면 기존 단일 엔드포인트)
+    @Value("${chatbot.asr.replicas.std:${chatbot.asr.std-endpoint:http://localhost:9001/asr/transcribe}}")
+    private List<String> stdReplicas;
+
+    @Value("${chatbot.asr.replicas.gs:${chatbot.asr.gs-endpoint:http://localhost:9002/asr/transcribe}}")
+    private List<String> gsReplicas;
+
+    @Value("${chatbot.asr.replicas.jl:${chatbot.asr.jl-endpoint:http://localhost:9003/asr/transcribe}}")
+    private List<String> jlReplicas;
+
+    @Value("${chatbot.asr.hedge.min-delay-ms:300}")
+    private long minHedgeDelayMs;
+
+    // 표본이 쌓이기 전 헤징 기준
+    @Value("${chatbot.asr.hedge.default-delay-ms:2000}")
+    private long defaultHedgeDelayMs;
+
+    @Value("${chatbot.asr.hedge.percentile:0.95}")
+    private double hedgePercentile;
+
+    @Value("${chatbot.asr.health.path:/health}")
+    private String healthPath;
+
+    @Value("${chatbot.asr.health.timeout-ms:2000}")
+    private long healthTimeoutMs;
+
+    // 연속으로 이만큼 실패하면 선택 대상에서 제외
+    @Value("${chatbot.asr.health.unhealthy-after:2}")
+    private int unhealthyAfter;
+
+    private final Map<String, Replica> replicasByUrl = new LinkedHashMap<>();
+    private final Map<String, List<Replica>> replicasByRegion = new LinkedHashMap<>();
+    private final Map<String, LatencyWindow> latencyByRegion = new LinkedHashMap<>();
+
+    @PostConstruct
+    public void init() {
+        register("std", stdReplicas);
+        register("gs", gsReplicas);
+        register("jl", jlReplicas);
+        for (String region : REGIONS) {
+            latencyByRegion.put(region, new LatencyWindow(200));
+            Gauge.builder("asr.hedge.delay", this, p -> p.hedgeDelayMs(region))
+                    .tag("region", region).baseUnit("milliseconds").register(meterRegistry);
+        }
+        log.info("ASR 복제본: {}", replicasByRegion);
+    }
+
+    /**
+     * 요청을 보낼 복제본 선택
+     *
+     * @return [주 복제본, 헤징용 복제본(있으면)]
+     */
+    public List<Replica> pick(String regionCode) {
+        List<Replica> all = replicasByRegion.get(normalizeRegion(regionCode));
+        List<Replica> healthy = all.stream().filter(Replica::isHealthy).toList();
+        // 모두 비정상이면 그래도 전체 중에서 시도
+        List<Replica> candidates = new ArrayList<>(healthy.isEmpty() ? all : healthy);
+        if (candidates.size() == 1) return candidates;
+
+        Replica primary = weightedRandom(candidates);
+        candidates.remove(primary);
+        Replica secondary = candidates.stream().max(Comparator.comparingDouble(Replica::weight)).orElseThrow();
+        return List.of(primary, secondary);
+    }
+
+    /**
+     * 헤징 기준 시간: 지역별 최근 응답 시간의 p95
+     */
+    public long hedgeDelayMs(String regionCode) {
+        long observed = latencyByRegion.get(normalizeRegion(regionCode)).percentile(hedgePercentile, MIN_SAMPLES);
+        return Math.max(minHedgeDelayMs, observed < 0 ? defaultHedgeDelayMs : observed);
+    }
+
+    // 요청 시작 (처리 중인 요청 수 증가)
+    public void begin(Replica replica) {
+        replica.inFlight.incrementAndGet();
+    }
+
+    // 요청 종료 (응답 시간과 성공 여부 반영)
+    public void end(Replica replica, String regionCode, long elapsedMs, boolean success) {
+        replica.inFlight.decrementAndGet();
+        replica.latency(success).record(elapsedMs, TimeUnit.MILLISECONDS);
+        if (success) {
+            replica.observe(elapsedMs);
+            replica.markSuccess();
+            latencyByRegion.get(normalizeRegion(regionCode)).add(elapsedMs);
+        } else {
+            markFailure(replica);
+        }
+    }
+
+    // 주기적 상태 확인 (응답 코드가 5xx 미만이면 정상, 연결 실패/5xx는 실패)
+    @Scheduled(fixedDelayString = "${chatbot.asr.health.interval-ms:10000}")
+    public void checkHealth() {
+        for (Replica replica : replicasByUrl.values()) {
+            HttpGet request = new HttpGet(replica.healthUrl);
+            request.setConfig(RequestConfig.custom()
+                    .setResponseTimeout(Timeout.ofMilliseconds(healthTimeoutMs))
+                    .setConnectionRequestTimeout(Timeout.ofMilliseconds(healthTimeoutMs))
+                    .build());
+            try {
+                int status = outboundHttpClient.execute(request, response -> response.getCode());
+                if (status < 500) {
+                    replica.markSuccess();
+                } else {
+                    markFailure(replica);
+                }
+            } catch (Exception e) {
+                markFailure(replica);
+            }
+        }
+    }
+
+    private void markFailure(Replica replica) {
+        if (replica.failures.incrementAndGet() >= unhealthyAfter && replica.healthy) {
+            replica.healthy = false;
+            log.warn("ASR 복제본 비정상 처리: {}", replica.url);
+        }
+    }
+
+    private void register(String region, List<String> urls) {
+        List<Replica> replicas = new ArrayList<>();
+        for (String url : urls) {
+            if (url == null || url.isBlank()) continue;
+            replicas.add(replicasByUrl.computeIfAbsent(url.trim(), this::newReplica));
+        }
+        if (replicas.isEmpty()) throw new IllegalStateException("ASR 복제본이 없습니다: " + region);
+        replicasByRegion.put(region, List.copyOf(replicas));
+    }
+
+    private Replica newReplica(String url) {
+        Replica replica = new Replica(url, healthUrlOf(url), defaultHedgeDelayMs / 2.0, meterRegistry);
+        Gauge.builder("asr.replica.healthy", replica, r -> r.healthy ? 1 : 0)
+                .tag("replica", replica.tag).register(meterRegistry);
+        return replica;
+    }
+
+    private String healthUrlOf(String url) {
+        URI uri = URI.create(url);
+        return uri.getScheme() + "://" + uri.getAuthority() + healthPath;
+    }
+
+    private Replica weightedRandom(List<Replica> candidates) {
+        double total = candidates.stream().mapToDouble(Replica::weight).sum();
+        double r = ThreadLocalRandom.current().nextDouble(total);
+        for (Replica replica : candidates) {
+            r -= replica.weight();
+            if (r <= 0) return replica;
+        }
+        return candidates.get(candidates.size() - 1);
+    }
+
+    private static String normalizeRegion(String regionCode) {
+        if ("gs".equalsIgnoreCase(regionCode)) return "gs";
+        if ("jl".equalsIgnoreCase(regionCode)) return "jl";
+        return "std";
+    }
+
+    /**
+     * ASR 복제본 하나
+     */
+    public static class Replica {
+        @Getter
+        private final String url;
+        private final String healthUrl;
+        private final String tag;
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final AtomicInteger failures = new AtomicInteger();
+        private final Timer successLatency;
+        private final Timer failureLatency;
+        private volatile boolean healthy = true;
+        private volatile double ewmaMs;
+
+        Replica(String url, String healthUrl, double initialLatencyMs, MeterRegistry meterRegistry) {
+            this.url = url;
+            this.healthUrl = healthUrl;
+            this.tag = URI.create(url).getAuthority();
+            this.ewmaMs = initialLatencyMs;
+            this.successLatency = Timer.builder("asr.replica.latency").tag("replica", tag).tag("outcome", "success")
+                    .register(meterRegistry);
+            this.failureLatency = Timer.builder("asr.replica.latency").tag("replica", tag).tag("outcome", "failure")
+                    .register(meterRegistry);
+        }
+
+        public boolean isHealthy() {
+            return healthy;
+        }
+
+        // 선택 가중치: 빠르고 한가할수록 큼
+        double weight() {
+            return 1.0 / (Math.max(1.0, ewmaMs) * (1 + inFlight.get()));
+        }
+
+        synchronized void observe(long elapsedMs) {
+            ewmaMs = EWMA_ALPHA * elapsedMs + (1 - EWMA_ALPHA) * ewmaMs;
+        }
+
+        void markSuccess() {
+            failures.set(0);
+            if (!healthy) {
+                healthy = true;
+                log.info("ASR 복제본 복구: {}", url);
+            }
+        }
+
+        Timer latency(boolean success) {
+            return success ? successLatency : failureLatency;
+        }
+
+        @Override
+        public String toString() {
+            return tag;
+        }
+    }
+
+    /**
+     * 최근 응답 시간 링 버퍼 (백분위 계산용)
+     */
+    private static class LatencyWindow {
+        private final long[] samples;
+        private int index = 0;
+        private int count = 0;
+
+        LatencyWindow(int size) {
+            this.samples = new long[size];
+        }
+
+        synchronized void add(long millis) {
+            samples[index] = millis;
+            index = (index + 1) % samples.length;
+            count = Math.min(count + 1, samples.length);
+        }
+
+        // 표본이 minSamples개 미만이면 -1
+        synchronized long percentile(double p, int minSamples) {
+            if (count < minSamples) return -1;
+            long[] sorted = Arrays.copyOf(samples, count);
+            Arrays.sort(sorted);
+            return sorted[Math.min(count - 1, (int) Math.ceil(p * count) - 1)];
+        }
+    }
+}
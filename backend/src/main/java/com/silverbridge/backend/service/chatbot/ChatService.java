@@ -5,21 +5,38 @@ import com.silverbridge.backend.dto.calendar.CalendarDtos;
 import com.silverbridge.backend.dto.chatbot.*;
 import com.silverbridge.backend.domain.chatbot.ChatMessage;
 import com.silverbridge.backend.domain.chatbot.ChatSession;
+import com.silverbridge.backend.domain.chatbot.Emotion;
 import com.silverbridge.backend.repository.UserRepository;
 import com.silverbridge.backend.repository.chatbot.ChatMessageRepository;
 import com.silverbridge.backend.repository.chatbot.ChatSessionRepository;
+import com.silverbridge.backend.service.EmotionStatsService;
 import com.silverbridge.backend.service.calendar.CalendarService;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import reactor.core.Disposable;
+import reactor.core.Disposables;
+import reactor.core.scheduler.Schedulers;
 
+import java.io.IOException;
+import java.time.Clock;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class ChatService {
@@ -29,29 +46,59 @@ public class ChatService {
     private final ChatMessageRepository messageRepo;
     private final AsrClient asrClient;
     private final LlmClient llmClient;
+    private final IntentRouter intentRouter;
     private final PromptBuilder promptBuilder;
     private final EmotionClient emotionClient;
+    private final EmotionStatsService emotionStatsService;
     private final TtsClient ttsClient;
+    private final SentenceTtsPipeline sentenceTtsPipeline;
+    private final ChatTitleGenerator titleGenerator;
+    private final ConversationWindowCache historyCache;
+    private final ConversationSummarizer conversationSummarizer;
     private final NaverSearchClient naverSearchClient;
+    private final WelfareIndex welfareIndex;
+    private final SemanticRetriever semanticRetriever;
+    private final AnswerCache answerCache;
 
     // 2. 기능 수행을 위한 서비스
     private final CalendarService calendarService;
     private final UserRepository userRepository;
 
+    // 3. 독립 단계 병렬 실행용 Executor (ChatPipelineConfig)
+    private final ThreadPoolTaskExecutor chatPipelineExecutor;
+
+    // 4. 짧은 트랜잭션 단위 실행 (원격 호출 동안 DB 커넥션을 점유하지 않도록)
+    private final TransactionTemplate transactionTemplate;
+
+    // 5. 메시지 생성 시각 기준 시계 (AppConfig, 감정 일자 집계와 같은 시간대)
+    private final Clock clock;
+
     @Value("${chatbot.senior-friendly:true}")
     private boolean seniorFriendly;
 
     @Value("${chatbot.history-limit:20}")
     private int historyLimit;
 
+    @Value("${chatbot.pipeline.emotion-timeout-ms:3000}")
+    private long emotionTimeoutMs;
+
+    @Value("${chatbot.pipeline.command-timeout-ms:10000}")
+    private long commandTimeoutMs;
+
+    @Value("${chatbot.llm.function-calling:true}")
+    private boolean functionCalling;
+
+    @Value("${chatbot.stream.timeout-ms:60000}")
+    private long streamTimeoutMs;
+
     // --- 1. 텍스트 입력 처리 ---
-    @Transactional
+    // ASR/감정 분석/LLM/TTS 등 원격 호출 동안 커넥션을 잡지 않도록 메서드 전체 트랜잭션은 두지 않음
+    // (세션 upsert, 메시지 저장 등 DB 작업만 각각 짧은 트랜잭션으로 실행)
     public ChatTextResponse handleText(Long userId, ChatTextRequest req) {
         return processChat(userId, req.getSessionId(), req.getRegionCode(), req.getText());
     }
 
     // --- 2. 음성 입력 처리 ---
-    @Transactional
     public ChatVoiceResponse handleVoice(Long userId, String regionCode, MultipartFile file, Long sessionId) {
         ChatSession session = upsertSession(userId, sessionId, regionCode);
         String asrText = asrClient.transcribe(session.getRegionCode(), file);
@@ -73,21 +120,34 @@ public class ChatService {
     private ChatTextResponse processChat(Long userId, Long sessionId, String regionCode, String userText) {
         ChatSession session = upsertSession(userId, sessionId, regionCode);
 
-        String emotion = emotionClient.analyze(userText);
-        saveMessage(session, ChatMessage.Role.USER, userText, emotion);
+        // 감정 분석과 명령 의도 파악은 userText에만 의존하므로 동시에 실행
+        CompletableFuture<Emotion> emotionFuture = analyzeEmotionAsync(userText);
+        IntentRouter.Decision decision = intentRouter.route(userText);
 
         String botReply = "";
 
-        // 명령 의도 파악
-        ScheduleCommandDto command = llmClient.extractCommand(userText);
-        System.out.println("🤖 감지된 명령: " + command);
-
-        if (command.getAction() != ScheduleCommandDto.Action.NONE) {
-            // 명령 실행 (일정/알림)
-            botReply = executeCommand(userId, command, session.getRegionCode());
+        if (functionCalling && !decision.isResolved()) {
+            // 로컬에서 판단하지 못한 발화는 의도 판별 + 답변을 한 번의 LLM 호출로 처리
+            Emotion emotion = emotionFuture.join();
+            saveMessage(session, ChatMessage.Role.USER, userText, emotion);
+            botReply = generateReplyWithTools(userId, session, userText, emotion);
         } else {
-            // 일반 대화 (검색 + LLM)
-            botReply = generateGeneralReply(session, userText, emotion);
+            CompletableFuture<ScheduleCommandDto> commandFuture = extractCommandAsync(userText, decision);
+
+            // 합류 지점: 두 단계가 모두 끝난 뒤 명령 실행/일반 대화로 진행
+            Emotion emotion = emotionFuture.join();
+            ScheduleCommandDto command = commandFuture.join();
+            log.debug("감지된 명령: {}", command);
+
+            saveMessage(session, ChatMessage.Role.USER, userText, emotion);
+
+            if (command.getAction() != ScheduleCommandDto.Action.NONE) {
+                // 명령 실행 (일정/알림)
+                botReply = executeCommand(userId, command, session.getRegionCode());
+            } else {
+                // 일반 대화 (검색 + LLM)
+                botReply = generateGeneralReply(session, userText, emotion);
+            }
         }
 
         generateTitleIfNeeded(session, userText, botReply);
@@ -104,6 +164,185 @@ public class ChatService {
                 .build();
     }
 
+    // --- 3. 텍스트 입력 스트리밍 처리 (SSE) ---
+    /**
+     * LLM 토큰을 생성되는 즉시 SSE로 전송하고, 이후 제목/메시지 ID/음성을 개별 이벤트로 전송
+     * - 이벤트 순서: session → token(반복) → title → message → audio → done
+     * - sentenceAudio 모드에서는 audio 대신 문장별 audio-segment 이벤트가 토큰과 함께 순서대로 전송됨
+     * - 요청 스레드를 점유하지 않도록 트랜잭션 없이 각 저장 단계가 개별 트랜잭션으로 실행됨
+     * - 클라이언트 연결 종료/시간 초과 시 LLM 스트림 구독과 문장 TTS를 중단하고 이후 단계는 실행하지 않음
+     */
+    public SseEmitter streamText(Long userId, ChatTextRequest req, boolean sentenceAudio) {
+        SseEmitter emitter = new SseEmitter(streamTimeoutMs);
+        ChatSession session = upsertSession(userId, req.getSessionId(), req.getRegionCode());
+        String userText = req.getText();
+
+        // 스트림 수명: emitter가 끝나면(정상 완료 포함) 진행 중인 구독/TTS 정리
+        AtomicBoolean closed = new AtomicBoolean(false);
+        Disposable.Swap subscription = Disposables.swap();
+        List<SentenceTtsPipeline.Run> ttsRuns = Collections.synchronizedList(new ArrayList<>());
+        Runnable cancel = () -> {
+            if (!closed.compareAndSet(false, true)) return;
+            subscription.dispose();
+            ttsRuns.forEach(SentenceTtsPipeline.Run::cancel);
+        };
+        emitter.onCompletion(cancel);
+        emitter.onTimeout(() -> {
+            log.warn("SSE 시간 초과: sessionId={}", session.getId());
+            cancel.run();
+        });
+        emitter.onError(e -> cancel.run());
+
+        sendEvent(emitter, "session", session.getId());
+
+        CompletableFuture<Emotion> emotionFuture = analyzeEmotionAsync(userText);
+        CompletableFuture<ScheduleCommandDto> commandFuture = extractCommandAsync(userText, intentRouter.route(userText));
+
+        emotionFuture.thenAcceptBothAsync(commandFuture, (emotion, command) -> {
+            // 감정 분석/명령 추출 중 연결이 끊겼으면 저장/실행하지 않음
+            if (closed.get()) return;
+            log.debug("감지된 명령: {}", command);
+            ChatMessage userMessage = saveMessage(session, ChatMessage.Role.USER, userText, emotion);
+
+            // 문장 단위 음성 모드: 문장이 완성될 때마다 TTS를 요청하고 순서대로 전송
+            SentenceTtsPipeline.Run sentenceTts = sentenceAudio
+                    ? sentenceTtsPipeline.start(session.getRegionCode(),
+                            (index, audioUrl) -> sendEvent(emitter, "audio-segment", new AudioSegmentDto(index, audioUrl)))
+                    : null;
+            if (sentenceTts != null) {
+                ttsRuns.add(sentenceTts);
+                if (closed.get()) sentenceTts.cancel();
+            }
+
+            if (command.getAction() != ScheduleCommandDto.Action.NONE) {
+                // 명령 실행 결과는 한 번에 전송
+                String botReply = executeCommand(userId, command, session.getRegionCode());
+                sendEvent(emitter, "token", botReply);
+                if (sentenceTts != null) sentenceTts.accept(botReply);
+                finishStream(emitter, closed, session, userMessage, userText, botReply, sentenceTts);
+                return;
+            }
+
+            List<SearchResDto> references = findReferences(session, userText);
+            boolean contextFree = isContextFree(session);
+            String cachedReply = answerCache.find(session.getRegionCode(), emotion, contextFree, userText, references);
+            if (cachedReply != null) {
+                // 같은 정보 질문에 대한 이전 답변이 있으면 LLM 호출 없이 한 번에 전송
+                sendEvent(emitter, "token", cachedReply);
+                if (sentenceTts != null) sentenceTts.accept(cachedReply);
+                finishStream(emitter, closed, session, userMessage, userText, cachedReply, sentenceTts);
+                return;
+            }
+
+            StringBuilder replyBuffer = new StringBuilder();
+            long startedAt = System.nanoTime();
+            // 이미 정리된 경우 update가 새 구독을 바로 해제함
+            subscription.update(llmClient.chatStream(buildGeneralPrompt(session, userText, emotion, references), seniorFriendly)
+                    .subscribe(
+                            token -> {
+                                replyBuffer.append(token);
+                                sendEvent(emitter, "token", token);
+                                if (sentenceTts != null) sentenceTts.accept(token);
+                            },
+                            // 답변 도중 실패: 부분 답변은 저장/캐시하지 않고 스트림을 오류로 종료
+                            e -> {
+                                log.warn("LLM 스트리밍 실패: sessionId={}, {}", session.getId(), e.toString());
+                                cancel.run();
+                                emitter.completeWithError(e);
+                            },
+                            // 후처리(DB 저장, TTS)는 블로킹 작업이므로 Reactor 스레드가 아닌 파이프라인 Executor에서 실행
+                            () -> offload(() -> {
+                                if (closed.get()) return;
+                                String botReply = replyBuffer.toString();
+                                answerCache.put(session.getRegionCode(), emotion, contextFree, userText, references, botReply,
+                                        elapsedMillis(startedAt));
+                                finishStream(emitter, closed, session, userMessage, userText, botReply, sentenceTts);
+                            })
+                    ));
+        }, this::offload).exceptionally(e -> {
+            emitter.completeWithError(e);
+            return null;
+        });
+
+        return emitter;
+    }
+
+    // 스트리밍 응답 완료 후 제목 생성, 답변 저장, 음성 합성 결과를 순서대로 전송 (연결이 끊겼으면 음성 합성 생략)
+    private void finishStream(SseEmitter emitter, AtomicBoolean closed, ChatSession session, ChatMessage userMessage, String userText,
+                              String botReply, SentenceTtsPipeline.Run sentenceTts) {
+        try {
+            generateTitleIfNeeded(session, userText, botReply);
+            if (session.getTitle() != null) {
+                sendEvent(emitter, "title", session.getTitle());
+            }
+
+            ChatMessage assistantMessage = saveMessage(session, ChatMessage.Role.ASSISTANT, botReply, null);
+            sendEvent(emitter, "message", new MessageIdsDto(userMessage.getId(), assistantMessage.getId()));
+            if (closed.get()) return;
+
+            if (sentenceTts != null) {
+                // 남은 문장까지 모든 음성 조각이 전송될 때까지 대기
+                sentenceTts.finish().join();
+            } else {
+                // 음성 합성에 실패하면 audio 이벤트 없이 텍스트 답변만 전달
+                String audioUrl = ttsClient.synthesize(botReply, session.getRegionCode());
+                if (audioUrl != null) sendEvent(emitter, "audio", audioUrl);
+            }
+            sendEvent(emitter, "done", "[DONE]");
+            emitter.complete();
+        } catch (Exception e) {
+            emitter.completeWithError(e);
+        }
+    }
+
+    // SSE 이벤트 전송 (클라이언트 연결이 끊긴 경우 로그만 남김)
+    private void sendEvent(SseEmitter emitter, String name, Object data) {
+        try {
+            emitter.send(SseEmitter.event().name(name).data(data));
+        } catch (IOException | IllegalStateException e) {
+            log.debug("SSE 전송 실패({}): {}", name, e.getMessage());
+        }
+    }
+
+    private CompletableFuture<Emotion> analyzeEmotionAsync(String userText) {
+        return runStage("감정 분석", () -> emotionClient.analyze(userText), emotionTimeoutMs, Emotion.NEUTRAL);
+    }
+
+    private CompletableFuture<ScheduleCommandDto> extractCommandAsync(String userText, IntentRouter.Decision decision) {
+        // 확실한 일반 대화/알림 설정은 로컬 분류기로 바로 결정하고, 애매한 경우만 LLM 호출
+        if (decision.isResolved()) {
+            return CompletableFuture.completedFuture(decision.getCommand());
+        }
+        return runStage("명령 추출", () -> llmClient.extractCommand(userText), commandTimeoutMs,
+                ScheduleCommandDto.builder().action(ScheduleCommandDto.Action.NONE).build());
+    }
+
+    /**
+     * 파이프라인 단계를 전용 Executor에서 실행
+     * - 제한 시간을 넘기거나 예외가 발생하면 fallback 값으로 대체
+     */
+    private <T> CompletableFuture<T> runStage(String stageName, Supplier<T> stage, long timeoutMs, T fallback) {
+        return CompletableFuture.supplyAsync(stage, this::offload)
+                .orTimeout(timeoutMs, TimeUnit.MILLISECONDS)
+                .exceptionally(e -> {
+                    log.warn("{} 단계 실패(대체값 사용): {}", stageName, e.toString());
+                    return fallback;
+                });
+    }
+
+    /**
+     * 블로킹 작업을 파이프라인 Executor에 위임
+     * - 큐가 가득 차면 호출 스레드(Reactor 이벤트 루프일 수 있음)에서 실행하지 않고 boundedElastic 스케줄러에서 실행
+     */
+    private void offload(Runnable task) {
+        try {
+            chatPipelineExecutor.execute(task);
+        } catch (TaskRejectedException e) {
+            log.debug("파이프라인 큐 가득 참, boundedElastic에서 실행");
+            Schedulers.boundedElastic().schedule(task);
+        }
+    }
+
     /**
      * [기능 실행기]
      */
@@ -161,26 +400,90 @@ public class ChatService {
     /**
      * [일반 대화 생성기]
      */
-    private String generateGeneralReply(ChatSession session, String userText, String emotion) {
-        List<MessageDto> history = latestHistory(session.getId(), historyLimit);
-        List<SearchResDto> searchResults = null;
+    private String generateGeneralReply(ChatSession session, String userText, Emotion emotion) {
+        List<SearchResDto> references = findReferences(session, userText);
+        boolean contextFree = isContextFree(session);
+        String cachedReply = answerCache.find(session.getRegionCode(), emotion, contextFree, userText, references);
+        if (cachedReply != null) return cachedReply;
+
+        long startedAt = System.nanoTime();
+        String reply = llmClient.chat(buildGeneralPrompt(session, userText, emotion, references), seniorFriendly);
+        answerCache.put(session.getRegionCode(), emotion, contextFree, userText, references, reply, elapsedMillis(startedAt));
+        return reply;
+    }
 
-        if (promptBuilder.isSearchNeeded(userText)) {
-            System.out.println("🔎 검색 실행: " + userText);
-            searchResults = naverSearchClient.search(userText);
+    /**
+     * [통합 대화 생성기] 명령 도구(Function Calling)를 포함한 단일 LLM 호출
+     * - 모델이 일정/알림 도구를 호출하면 executeCommand로 실행하고, 그 결과를 바탕으로 한 모델의 답변을 사용
+     * - 모델 답변이 비어 있으면 명령 실행 결과 문구를 그대로 사용
+     * - 명령일 수도 있는 발화이므로 답변 캐시는 조회하지 않고, 도구가 호출되지 않은 답변만 저장
+     */
+    private String generateReplyWithTools(Long userId, ChatSession session, String userText, Emotion emotion) {
+        StringBuilder commandResult = new StringBuilder();
+        List<SearchResDto> references = findReferences(session, userText);
+        boolean contextFree = isContextFree(session);
+        long startedAt = System.nanoTime();
+        String reply = llmClient.chatWithTools(buildGeneralPrompt(session, userText, emotion, references), command -> {
+            log.debug("감지된 명령(함수 호출): {}", command);
+            String result = executeCommand(userId, command, session.getRegionCode());
+            commandResult.setLength(0);
+            commandResult.append(result);
+            return result;
+        });
+
+        if (commandResult.length() > 0) {
+            // 명령은 실행됐는데 후속 답변 생성이 실패했으면 실행 결과 문구로 답변
+            boolean replyFailed = reply == null || reply.isBlank() || LlmClient.ERROR_REPLY.equals(reply);
+            return replyFailed ? commandResult.toString() : reply;
         }
+        answerCache.put(session.getRegionCode(), emotion, contextFree, userText, references, reply, elapsedMillis(startedAt));
+        return reply;
+    }
 
-        String contextMsg = String.format("사용자 (감정: %s): %s", emotion, userText);
-        List<MessageDto> prompt = promptBuilder.build(
+    /**
+     * 참고 자료 검색
+     * 1. 벡터 검색: 유사한 복지 자료가 있으면 키워드가 없는 질문도 참고 자료 사용
+     * 2. 검색 키워드가 있으면 로컬 복지 인덱스(BM25), 관련 결과가 없을 때만 네이버 검색
+     */
+    private List<SearchResDto> findReferences(ChatSession session, String userText) {
+        List<SearchResDto> references = semanticRetriever.retrieve(session.getRegionCode(), userText);
+        if (!references.isEmpty() || !promptBuilder.isSearchNeeded(userText)) return references;
+
+        references = welfareIndex.search(session.getRegionCode(), userText);
+        if (references.isEmpty()) {
+            log.debug("네이버 검색 실행: {}", userText);
+            references = naverSearchClient.search(userText);
+        }
+        return references;
+    }
+
+    // 답변 프롬프트에 이전 대화/요약이 들어가지 않는지 (방금 저장한 사용자 메시지만 있는 첫 턴) - 답변 캐시 공유 조건
+    private boolean isContextFree(ChatSession session) {
+        if (session.getSummary() != null) return false;
+        return latestHistory(session.getId(), 2).size() <= 1;
+    }
+
+    private static long elapsedMillis(long startedAtNanos) {
+        return (System.nanoTime() - startedAtNanos) / 1_000_000;
+    }
+
+    // 일반 대화용 프롬프트 구성 (히스토리 + 검색 결과 + 감정)
+    private List<MessageDto> buildGeneralPrompt(ChatSession session, String userText, Emotion emotion, List<SearchResDto> searchResults) {
+        // 요약이 있으면 요약 + 최근 대화만, 없으면 기존처럼 최근 historyLimit개
+        String summary = conversationSummarizer.isEnabled() ? session.getSummary() : null;
+        int limit = summary != null ? Math.min(historyLimit, conversationSummarizer.recentWindow()) : historyLimit;
+        List<MessageDto> history = latestHistory(session.getId(), limit);
+
+        String contextMsg = String.format("사용자 (감정: %s): %s", Emotion.labelOf(emotion), userText);
+        return promptBuilder.build(
                 history,
+                summary,
                 contextMsg,
                 emotion,
                 session.getRegionCode(),
                 seniorFriendly,
                 searchResults
         );
-
-        return llmClient.chat(prompt, seniorFriendly);
     }
 
     // ▼▼▼ [이 부분이 누락되어 에러가 났었습니다! 다시 추가함] ▼▼▼
@@ -209,11 +512,17 @@ public class ChatService {
         }
         messageRepo.deleteAll(messageRepo.findTop50BySessionIdOrderByCreatedAtDesc(sessionId));
         sessionRepo.delete(session);
+        historyCache.evict(sessionId);
     }
 
     // ▲▲▲▲▲▲▲▲▲▲▲▲▲▲▲▲▲▲▲▲▲▲▲▲▲▲▲▲▲▲▲▲
 
+    // 세션 조회/생성을 하나의 짧은 트랜잭션으로 실행
     private ChatSession upsertSession(Long userId, Long sessionId, String regionCode) {
+        return transactionTemplate.execute(status -> doUpsertSession(userId, sessionId, regionCode));
+    }
+
+    private ChatSession doUpsertSession(Long userId, Long sessionId, String regionCode) {
         ChatSession session;
         if (sessionId != null) {
             session = sessionRepo.findById(sessionId)
@@ -230,34 +539,54 @@ public class ChatService {
         return sessionRepo.save(session);
     }
 
-    private void saveMessage(ChatSession s, ChatMessage.Role role, String content, String emotion) {
+    // 메시지 저장 (repository save 자체가 개별 트랜잭션)
+    private ChatMessage saveMessage(ChatSession s, ChatMessage.Role role, String content, Emotion emotion) {
         ChatMessage m = new ChatMessage();
         m.setSession(s);
         m.setRole(role);
         m.setContent(content);
         m.setEmotion(emotion);
-        messageRepo.save(m);
+        m.setCreatedAt(LocalDateTime.now(clock));
+        ChatMessage saved = messageRepo.save(m);
+        historyCache.append(s.getId(), toDto(saved));
+        // 사용자 메시지는 일자별 감정 집계에 반영
+        if (role == ChatMessage.Role.USER) {
+            emotionStatsService.record(s.getUserId(), saved.getCreatedAt(), emotion);
+        }
+        // 한 턴이 끝나면 오래된 대화 요약 갱신 여부 확인 (비동기)
+        if (role == ChatMessage.Role.ASSISTANT) {
+            conversationSummarizer.refreshAsync(s.getId());
+        }
+        return saved;
     }
 
+    // 최근 히스토리 조회: 세션 캐시 우선, 없으면 DB에서 읽어 캐시를 채움
     private List<MessageDto> latestHistory(Long sessionId, int limit) {
-        return messageRepo.findTop50BySessionIdOrderByCreatedAtDesc(sessionId).stream()
+        List<MessageDto> cached = historyCache.recent(sessionId, limit);
+        if (cached != null) return cached;
+
+        List<MessageDto> history = messageRepo.findTop50BySessionIdOrderByCreatedAtDesc(sessionId).stream()
                 .sorted(Comparator.comparing(ChatMessage::getCreatedAt))
-                .limit(limit)
-                .map(m -> new MessageDto(m.getRole().name().toLowerCase(), m.getContent(), m.getEmotion()))
+                .map(this::toDto)
                 .collect(Collectors.toList());
+        historyCache.load(sessionId, history);
+        return history.subList(Math.max(0, history.size() - limit), history.size());
     }
 
+    private MessageDto toDto(ChatMessage m) {
+        // 감정 코드는 API 응답에서 라벨로 변환
+        return new MessageDto(m.getRole().name().toLowerCase(), m.getContent(), Emotion.labelOf(m.getEmotion()));
+    }
+
+    /**
+     * 새 세션이면 임시 제목을 바로 저장하고, 실제 제목(LLM)은 커밋 이후 비동기로 생성
+     * - 실제 제목은 세션 목록(/sessions) 조회 시 반영됨
+     */
     private void generateTitleIfNeeded(ChatSession session, String userMsg, String botResponse) {
         if (session.getTitle() != null) return;
-        try {
-            List<MessageDto> titlePrompt = promptBuilder.buildTitlePrompt(userMsg, botResponse);
-            String generatedTitle = llmClient.chat(titlePrompt, false);
-            generatedTitle = generatedTitle.replace("\"", "").replace("'", "").trim();
-            if (generatedTitle.length() > 50) generatedTitle = generatedTitle.substring(0, 50);
-            session.updateTitle(generatedTitle);
-            sessionRepo.save(session);
-        } catch (Exception e) {
-            System.err.println("제목 생성 실패: " + e.getMessage());
-        }
+        String placeholder = titleGenerator.placeholder(userMsg);
+        session.updateTitle(placeholder);
+        sessionRepo.save(session);
+        titleGenerator.generateAfterCommit(session.getId(), placeholder, userMsg, botResponse);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,98 @@
+package com.silverbridge.backend.service.chatbot;
+
+import com.silverbridge.backend.dto.chatbot.MessageDto;
+import com.silverbridge.backend.repository.chatbot.ChatSessionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+/**
+ * 대화 제목 생성기
+ * - 첫 턴에는 사용자 발화로 만든 임시 제목을 즉시 사용
+ * - LLM 제목 생성은 응답 커밋 이후 별도 스레드(titleExecutor)에서 실행하여 요청 지연에 포함되지 않음
+ * - titleExecutor의 큐가 가득 차면 임시 제목을 그대로 유지 (LLM 호출량 폭주 방지)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatTitleGenerator {
+
+    private static final int PLACEHOLDER_LENGTH = 15;
+    private static final int MAX_TITLE_LENGTH = 50;
+
+    private final LlmClient llmClient;
+    private final PromptBuilder promptBuilder;
+    private final ChatSessionRepository sessionRepo;
+    private final ThreadPoolTaskExecutor titleExecutor;
+
+    /**
+     * 로컬 규칙 기반 임시 제목
+     * - 첫 문장만 사용하고, 문장부호를 제거한 뒤 15자로 자름
+     */
+    public String placeholder(String userMsg) {
+        if (userMsg == null || userMsg.isBlank()) return "새 대화";
+
+        String firstSentence = userMsg.strip().split("[.?!\\n]", 2)[0];
+        String title = firstSentence.replaceAll("[\\p{Punct}\\s]+", " ").strip();
+        if (title.isEmpty()) return "새 대화";
+        if (title.length() > PLACEHOLDER_LENGTH) {
+            title = title.substring(0, PLACEHOLDER_LENGTH).strip() + "…";
+        }
+        return title;
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋된 뒤 LLM 제목 생성을 예약
+     * (트랜잭션이 없으면 바로 예약)
+     */
+    public void generateAfterCommit(Long sessionId, String placeholder, String userMsg, String botResponse) {
+        Runnable submit = () -> submit(sessionId, placeholder, userMsg, botResponse);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    submit.run();
+                }
+            });
+        } else {
+            submit.run();
+        }
+    }
+
+    private void submit(Long sessionId, String placeholder, String userMsg, String botResponse) {
+        try {
+            titleExecutor.execute(() -> generate(sessionId, placeholder, userMsg, botResponse));
+        } catch (TaskRejectedException e) {
+            log.warn("제목 생성 대기열 초과, 임시 제목 유지 (sessionId={})", sessionId);
+        }
+    }
+
+    private void generate(Long sessionId, String placeholder, String userMsg, String botResponse) {
+        try {
+            List<MessageDto> titlePrompt = promptBuilder.buildTitlePrompt(userMsg, botResponse);
+            String generatedTitle = llmClient.generateTitle(titlePrompt);
+            // LLM 실패/차단 시 임시 제목 유지
+            if (generatedTitle == null) return;
+            generatedTitle = generatedTitle.replace("\"", "").replace("'", "").trim();
+            if (generatedTitle.isEmpty()) return;
+            if (generatedTitle.length() > MAX_TITLE_LENGTH) generatedTitle = generatedTitle.substring(0, MAX_TITLE_LENGTH);
+
+            String title = generatedTitle;
+            sessionRepo.findById(sessionId).ifPresent(session -> {
+                // 그사이 제목이 바뀌었으면 덮어쓰지 않음
+                if (!placeholder.equals(session.getTitle())) return;
+                session.updateTitle(title);
+                sessionRepo.save(session);
+            });
+        } catch (Exception e) {
+            log.warn("제목 생성 실패 (sessionId={}): {}", sessionId, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.silverbridge.backend.service.chatbot;
+
+import com.silverbridge.backend.domain.chatbot.ChatMessage;
+import com.silverbridge.backend.domain.chatbot.ChatSession;
+import com.silverbridge.backend.dto.chatbot.MessageDto;
+import com.silverbridge.backend.repository.chatbot.ChatMessageRepository;
+import com.silverbridge.backend.repository.chatbot.ChatSessionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 대화 요약 메모리 관리자
+ * - 요약되지 않은 메시지가 (최근 tail-messages + refresh-every)개 이상 쌓이면,
+ *   최근 tail-messages개를 제외한 나머지를 기존 요약과 합쳐 새 요약으로 갱신
+ * - 한 번에 반영하는 메시지는 오래된 순으로 최대 max-chunk개 (밀린 메시지가 많으면 이후 턴마다 이어서 반영)
+ * - 요약은 저비용 모델로 summaryExecutor에서 비동기 실행되어 응답 지연에 포함되지 않음
+ * - 프롬프트에는 요약 + 최근 대화(최대 tail-messages + refresh-every개)만 전송
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ConversationSummarizer {
+
+    private static final int MAX_SUMMARY_LENGTH = 1000;
+
+    private final LlmClient llmClient;
+    private final PromptBuilder promptBuilder;
+    private final ChatSessionRepository sessionRepo;
+    private final ChatMessageRepository messageRepo;
+    private final ThreadPoolTaskExecutor summaryExecutor;
+
+    @Value("${chatbot.summary.enabled:true}")
+    private boolean enabled;
+
+    @Value("${chatbot.summary.tail-messages:6}")
+    private int tailMessages;
+
+    @Value("${chatbot.summary.refresh-every:6}")
+    private int refreshEvery;
+
+    // 한 번의 요약에 반영할 최대 메시지 수 (요약 모델 컨텍스트 보호)
+    @Value("${chatbot.summary.max-chunk:24}")
+    private int maxChunk;
+
+    // 세션별 중복 요약 방지
+    private final Set<Long> inFlight = ConcurrentHashMap.newKeySet();
+
+    /**
+     * 요약이 있는 세션의 프롬프트에 원문으로 포함할 최근 메시지 수
+     * (요약 이후 쌓인 메시지가 빠지지 않도록 갱신 주기만큼 여유를 둠)
+     */
+    public int recentWindow() {
+        return tailMessages + refreshEvery;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 요약 갱신이 필요한지 확인하고 필요하면 갱신 (비동기)
+     * - 대기열이 가득 차면 이번 턴은 건너뛰고 다음 턴에 다시 시도
+     */
+    public void refreshAsync(Long sessionId) {
+        if (!enabled || !inFlight.add(sessionId)) return;
+        try {
+            summaryExecutor.execute(() -> {
+                try {
+                    refresh(sessionId);
+                } finally {
+                    inFlight.remove(sessionId);
+                }
+            });
+        } catch (TaskRejectedException e) {
+            inFlight.remove(sessionId);
+            log.warn("대화 요약 대기열 초과, 다음 턴에 재시도 (sessionId={})", sessionId);
+        }
+    }
+
+    private void refresh(Long sessionId) {
+        try {
+            ChatSession session = sessionRepo.findById(sessionId).orElse(null);
+            if (session == null) return;
+
+            Long summarizedUntil = session.getSummarizedUntilId() == null ? 0L : session.getSummarizedUntilId();
+            // 오래된 순으로 최대 (max-chunk + tail-messages)개만 조회
+            int chunk = Math.max(maxChunk, refreshEvery);
+            List<ChatMessage> pending = messageRepo.findBySessionIdAndIdGreaterThanOrderByIdAsc(
+                    sessionId, summarizedUntil, PageRequest.of(0, chunk + tailMessages));
+            if (pending.size() < tailMessages + refreshEvery) return;
+
+            // 최근 tailMessages개는 원문으로 남기고 나머지(최대 chunk개)를 요약에 반영
+            // (조회 한도에 걸렸다면 뒤에 더 있는 것이므로, 남긴 tailMessages개는 다음 요약의 앞부분이 됨)
+            List<ChatMessage> target = pending.subList(0, pending.size() - tailMessages);
+            List<MessageDto> messages = target.stream()
+                    .map(m -> new MessageDto(m.getRole().name().toLowerCase(), m.getContent()))
+                    .toList();
+
+            String summary = llmClient.summarize(promptBuilder.buildSummaryPrompt(session.getSummary(), messages));
+            if (summary == null || summary.isBlank()) return;
+            summary = summary.strip();
+            if (summary.length() > MAX_SUMMARY_LENGTH) summary = summary.substring(0, MAX_SUMMARY_LENGTH);
+
+            sessionRepo.updateSummary(sessionId, summary, target.get(target.size() - 1).getId());
+            log.debug("대화 요약 갱신 (sessionId={}, messages={})", sessionId, target.size());
+        } catch (Exception e) {
+            log.warn("대화 요약 실패 (sessionId={}): {}", sessionId, e.getMessage());
+        }
+    }
+}
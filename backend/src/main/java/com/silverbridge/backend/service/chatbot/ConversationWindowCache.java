@@ -0,0 +1,188 @@
+package com.silverbridge.backend.service.chatbot;
+
+import com.silverbridge.backend.dto.chatbot.MessageDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 세션별 최근 대화 메시지 캐시 (링 버퍼)
+ * - 세션마다 최근 window-size개의 MessageDto를 시간순으로 보관
+ * - 메시지 저장 시 함께 갱신(write-through)되므로 히스토리 조회 시 DB 쿼리가 필요 없음
+ * - 일정 시간 사용하지 않은 세션, 또는 전체 메모리 한도를 넘으면 오래 사용하지 않은 세션부터 제거
+ * - 메트릭: chat.history.cache.requests{result=hit|miss}, chat.history.cache.bytes
+ */
+@Component
+@RequiredArgsConstructor
+public class ConversationWindowCache {
+
+    // 메시지 1건당 객체/문자열 헤더 등 고정 비용 추정치
+    private static final long MESSAGE_OVERHEAD_BYTES = 96;
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${chatbot.history-cache.window-size:50}")
+    private int windowSize;
+
+    @Value("${chatbot.history-cache.max-bytes:16777216}")
+    private long maxBytes;
+
+    @Value("${chatbot.history-cache.idle-ttl-minutes:30}")
+    private long idleTtlMinutes;
+
+    // 접근 순서 기반 LinkedHashMap (가장 오래 사용하지 않은 세션이 맨 앞)
+    private final LinkedHashMap<Long, Window> windows = new LinkedHashMap<>(64, 0.75f, true);
+    private long totalBytes = 0;
+
+    private Counter hits;
+    private Counter misses;
+
+    @PostConstruct
+    public void init() {
+        hits = Counter.builder("chat.history.cache.requests").tag("result", "hit").register(meterRegistry);
+        misses = Counter.builder("chat.history.cache.requests").tag("result", "miss").register(meterRegistry);
+        Gauge.builder("chat.history.cache.bytes", this, c -> c.currentBytes()).register(meterRegistry);
+    }
+
+    /**
+     * 최근 메시지 최대 limit개를 시간순으로 조회
+     *
+     * @return 캐시에 없는 세션이면 null (호출 측에서 DB 조회 후 load)
+     */
+    public List<MessageDto> recent(Long sessionId, int limit) {
+        synchronized (windows) {
+            Window window = windows.get(sessionId);
+            if (window == null) {
+                misses.increment();
+                return null;
+            }
+            hits.increment();
+            window.touch();
+            return window.tail(limit);
+        }
+    }
+
+    /**
+     * DB에서 읽어온 히스토리(시간순)로 세션 캐시 채우기
+     * - 그 사이 다른 경로로 이미 채워졌다면 기존 캐시 유지
+     */
+    public void load(Long sessionId, List<MessageDto> history) {
+        synchronized (windows) {
+            if (windows.containsKey(sessionId)) return;
+            Window window = new Window();
+            windows.put(sessionId, window);
+            for (MessageDto m : history) {
+                totalBytes += window.add(new MessageDto(m.getRole(), m.getContent(), m.getEmotion()));
+            }
+            evictOverLimit();
+        }
+    }
+
+    /**
+     * 새 메시지 추가 (write-through)
+     * - 캐시에 없는 세션이면 무시 (다음 조회 시 DB에서 저장된 메시지까지 함께 읽어옴)
+     */
+    public void append(Long sessionId, MessageDto message) {
+        synchronized (windows) {
+            Window window = windows.get(sessionId);
+            if (window == null) return;
+            window.touch();
+            totalBytes += window.add(message);
+            evictOverLimit();
+        }
+    }
+
+    // 세션 삭제 시 캐시 제거
+    public void evict(Long sessionId) {
+        synchronized (windows) {
+            Window window = windows.remove(sessionId);
+            if (window != null) totalBytes -= window.bytes;
+        }
+    }
+
+    // 일정 시간 사용하지 않은 세션 정리 (접근 순서대로 정렬되어 있으므로 앞에서부터 확인)
+    @Scheduled(fixedDelayString = "${chatbot.history-cache.sweep-interval-ms:60000}")
+    public void evictIdle() {
+        long deadline = System.currentTimeMillis() - idleTtlMinutes * 60_000;
+        synchronized (windows) {
+            Iterator<Window> it = windows.values().iterator();
+            while (it.hasNext()) {
+                Window window = it.next();
+                if (window.lastAccess > deadline) break;
+                totalBytes -= window.bytes;
+                it.remove();
+            }
+        }
+    }
+
+    // 전체 메모리 한도를 넘으면 가장 오래 사용하지 않은 세션부터 제거
+    private void evictOverLimit() {
+        Iterator<Map.Entry<Long, Window>> it = windows.entrySet().iterator();
+        while (totalBytes > maxBytes && it.hasNext()) {
+            totalBytes -= it.next().getValue().bytes;
+            it.remove();
+        }
+    }
+
+    private long currentBytes() {
+        synchronized (windows) {
+            return totalBytes;
+        }
+    }
+
+    private static long sizeOf(MessageDto m) {
+        long chars = length(m.getRole()) + length(m.getContent()) + length(m.getEmotion());
+        return MESSAGE_OVERHEAD_BYTES + chars * 2;
+    }
+
+    private static int length(String s) {
+        return s == null ? 0 : s.length();
+    }
+
+    /**
+     * 세션 하나의 메시지 링 버퍼 (용량을 넘으면 가장 오래된 메시지부터 밀려남)
+     */
+    private class Window {
+        private final ArrayDeque<MessageDto> messages = new ArrayDeque<>(windowSize);
+        private long bytes = 0;
+        private long lastAccess = System.currentTimeMillis();
+
+        // 추가 후 늘어난(줄어든) 바이트 수 반환
+        long add(MessageDto message) {
+            long delta = sizeOf(message);
+            messages.addLast(message);
+            while (messages.size() > windowSize) {
+                delta -= sizeOf(messages.removeFirst());
+            }
+            bytes += delta;
+            return delta;
+        }
+
+        // 최근 limit개를 복사하여 반환 (MessageDto가 가변 객체이므로 캐시 원본을 노출하지 않음)
+        List<MessageDto> tail(int limit) {
+            List<MessageDto> result = new ArrayList<>(Math.min(limit, messages.size()));
+            int skip = Math.max(0, messages.size() - limit);
+            for (MessageDto m : messages) {
+                if (skip-- > 0) continue;
+                result.add(new MessageDto(m.getRole(), m.getContent(), m.getEmotion()));
+            }
+            return result;
+        }
+
+        void touch() {
+            lastAccess = System.currentTimeMillis();
+        }
+    }
+}
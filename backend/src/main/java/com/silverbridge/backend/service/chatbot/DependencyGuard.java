@@ -0,0 +1,262 @@
+package com.silverbridge.backend.service.chatbot;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+
+/**
+ * 외부 의존성 하나(ASR, 감정 분석, LLM, TTS, 네이버)에 대한 보호 장치
+ * - 벌크헤드: 동시 호출 수를 제한하여 한 의존성이 느려져도 요청 스레드가 모두 묶이지 않게 함 (초과분은 즉시 대체값)
+ * - 서킷 브레이커: 최근 호출의 실패(느린 호출 포함) 비율이 기준을 넘으면 일정 시간 호출하지 않고 대체값 반환(OPEN),
+ *   이후 소수의 시험 호출(HALF_OPEN)이 모두 성공하면 다시 정상 상태(CLOSED)로 복귀
+ * - 보호 대상 호출은 실패 시 예외를 던져야 하며, 예외는 기록 후 대체값으로 바뀜
+ * - 메트릭: resilience.calls{dependency,outcome}, resilience.circuit.state{dependency}(0=CLOSED, 1=OPEN, 2=HALF_OPEN),
+ *   resilience.bulkhead.active{dependency}
+ */
+@Slf4j
+public class DependencyGuard {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final String name;
+    private final Settings settings;
+    private final Semaphore bulkhead;
+
+    // 최근 window-size개 호출 결과 링 버퍼 (true = 실패)
+    private final boolean[] window;
+    private int windowIndex = 0;
+    private int windowCount = 0;
+    private int windowFailures = 0;
+
+    private State state = State.CLOSED;
+    private long openedAt = 0;
+    private int probesInFlight = 0;
+    private int probeSuccesses = 0;
+
+    private final Counter successes;
+    private final Counter failures;
+    private final Counter slowCalls;
+    private final Counter rejected;
+    private final Counter shortCircuited;
+
+    DependencyGuard(String name, Settings settings, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.settings = settings;
+        this.bulkhead = new Semaphore(settings.maxConcurrent);
+        this.window = new boolean[settings.windowSize];
+
+        successes = outcomeCounter(meterRegistry, "success");
+        failures = outcomeCounter(meterRegistry, "failure");
+        slowCalls = outcomeCounter(meterRegistry, "slow");
+        rejected = outcomeCounter(meterRegistry, "rejected");
+        shortCircuited = outcomeCounter(meterRegistry, "short_circuited");
+        Gauge.builder("resilience.circuit.state", this, g -> g.getState().ordinal())
+                .tag("dependency", name).register(meterRegistry);
+        Gauge.builder("resilience.bulkhead.active", this, g -> settings.maxConcurrent - g.bulkhead.availablePermits())
+                .tag("dependency", name).register(meterRegistry);
+    }
+
+    /**
+     * 보호된 호출
+     *
+     * @param action   실제 호출 (실패 시 예외)
+     * @param fallback 거절/차단/실패 시 대체값
+     */
+    public <T> T call(Supplier<T> action, Supplier<T> fallback) {
+        if (!bulkhead.tryAcquire()) {
+            rejected.increment();
+            return fallback.get();
+        }
+        try {
+            State admittedIn = acquirePermission();
+            if (admittedIn == null) {
+                shortCircuited.increment();
+                return fallback.get();
+            }
+
+            long startedAt = System.nanoTime();
+            try {
+                T result = action.get();
+                onResult(admittedIn, isSlow(startedAt));
+                return result;
+            } catch (RuntimeException e) {
+                onFailure(admittedIn, e);
+                return fallback.get();
+            }
+        } finally {
+            bulkhead.release();
+        }
+    }
+
+    /**
+     * 보호된 스트리밍 호출 (구독 시점에 허가를 받고, 스트림이 끝날 때 결과 기록)
+     * - 스트림은 길이가 제각각이므로 느린 호출로 판단하지 않음
+     * - 구독 취소(클라이언트 연결 종료)는 의존성의 실패가 아니므로 성공으로 기록
+     * - 대체 스트림은 아무 요소도 방출하지 않았을 때만 사용 (이미 일부를 방출했으면 오류를 그대로 전달)
+     */
+    public <T> Flux<T> stream(Supplier<Flux<T>> action, Supplier<Flux<T>> fallback) {
+        return Flux.defer(() -> {
+            if (!bulkhead.tryAcquire()) {
+                rejected.increment();
+                return fallback.get();
+            }
+            State admittedIn = acquirePermission();
+            if (admittedIn == null) {
+                bulkhead.release();
+                shortCircuited.increment();
+                return fallback.get();
+            }
+
+            Flux<T> source;
+            try {
+                source = action.get();
+            } catch (RuntimeException e) {
+                onFailure(admittedIn, e);
+                bulkhead.release();
+                return fallback.get();
+            }
+
+            boolean[] recorded = {false};
+            boolean[] emitted = {false};
+            return source
+                    .doOnNext(item -> emitted[0] = true)
+                    .doOnError(e -> {
+                        recorded[0] = true;
+                        onFailure(admittedIn, e);
+                    })
+                    .doOnComplete(() -> {
+                        recorded[0] = true;
+                        onResult(admittedIn, false);
+                    })
+                    .doFinally(signal -> {
+                        if (!recorded[0]) onResult(admittedIn, false);
+                        bulkhead.release();
+                    })
+                    .onErrorResume(e -> emitted[0] ? Flux.error(e) : fallback.get());
+        });
+    }
+
+    public synchronized State getState() {
+        // OPEN 유지 시간이 지났으면 다음 호출이 시험 호출이 되므로 HALF_OPEN으로 표시
+        if (state == State.OPEN && System.currentTimeMillis() - openedAt >= settings.openMillis) {
+            return State.HALF_OPEN;
+        }
+        return state;
+    }
+
+    // 호출 허가 (허가된 시점의 상태 반환, 차단이면 null)
+    private synchronized State acquirePermission() {
+        if (state == State.OPEN) {
+            if (System.currentTimeMillis() - openedAt < settings.openMillis) return null;
+            state = State.HALF_OPEN;
+            probesInFlight = 0;
+            probeSuccesses = 0;
+            log.info("서킷 HALF_OPEN: {}", name);
+        }
+        if (state == State.HALF_OPEN) {
+            if (probesInFlight >= settings.halfOpenProbes) return null;
+            probesInFlight++;
+        }
+        return state;
+    }
+
+    private void onFailure(State admittedIn, Throwable e) {
+        log.warn("{} 호출 실패: {}", name, e.toString());
+        failures.increment();
+        record(admittedIn, true);
+    }
+
+    private void onResult(State admittedIn, boolean slow) {
+        if (slow) {
+            slowCalls.increment();
+        } else {
+            successes.increment();
+        }
+        record(admittedIn, slow);
+    }
+
+    private synchronized void record(State admittedIn, boolean failed) {
+        if (admittedIn == State.HALF_OPEN) {
+            if (state != State.HALF_OPEN) return;
+            probesInFlight--;
+            if (failed) {
+                open();
+            } else if (++probeSuccesses >= settings.halfOpenProbes) {
+                state = State.CLOSED;
+                resetWindow();
+                log.info("서킷 CLOSED: {}", name);
+            }
+            return;
+        }
+
+        // 정상 상태에서 허가된 호출이 끝나기 전에 서킷이 열렸으면 결과를 반영하지 않음
+        if (state != State.CLOSED) return;
+
+        if (windowCount == window.length) {
+            if (window[windowIndex]) windowFailures--;
+        } else {
+            windowCount++;
+        }
+        window[windowIndex] = failed;
+        if (failed) windowFailures++;
+        windowIndex = (windowIndex + 1) % window.length;
+
+        if (windowCount >= settings.minimumCalls && (double) windowFailures / windowCount >= settings.failureRateThreshold) {
+            open();
+        }
+    }
+
+    private void open() {
+        state = State.OPEN;
+        openedAt = System.currentTimeMillis();
+        log.warn("서킷 OPEN: {} ({}ms 동안 호출 차단)", name, settings.openMillis);
+    }
+
+    private void resetWindow() {
+        windowIndex = 0;
+        windowCount = 0;
+        windowFailures = 0;
+    }
+
+    private boolean isSlow(long startedAtNanos) {
+        return (System.nanoTime() - startedAtNanos) / 1_000_000 >= settings.slowCallMillis;
+    }
+
+    private Counter outcomeCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("resilience.calls")
+                .tag("dependency", name)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 의존성별 설정값
+     */
+    static class Settings {
+        final int maxConcurrent;
+        final double failureRateThreshold;
+        final long slowCallMillis;
+        final int windowSize;
+        final int minimumCalls;
+        final long openMillis;
+        final int halfOpenProbes;
+
+        Settings(int maxConcurrent, double failureRateThreshold, long slowCallMillis, int windowSize,
+                 int minimumCalls, long openMillis, int halfOpenProbes) {
+            this.maxConcurrent = maxConcurrent;
+            this.failureRateThreshold = failureRateThreshold;
+            this.slowCallMillis = slowCallMillis;
+            this.windowSize = Math.max(1, windowSize);
+            this.minimumCalls = Math.max(1, Math.min(minimumCalls, this.windowSize));
+            this.openMillis = openMillis;
+            this.halfOpenProbes = Math.max(1, halfOpenProbes);
+        }
+    }
+}
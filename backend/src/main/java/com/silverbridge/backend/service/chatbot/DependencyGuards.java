@@ -0,0 +1,54 @@
+package com.silverbridge.backend.service.chatbot;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 외부 의존성별 DependencyGuard 보관소
+ * - 설정: chatbot.resilience.{이름}.* 값이 없으면 chatbot.resilience.defaults.* 사용
+ */
+@Component
+@RequiredArgsConstructor
+public class DependencyGuards {
+
+    public static final String ASR = "asr";
+    public static final String EMOTION = "emotion";
+    // LLM은 용도별로 동시 호출 한도를 나눔 (긴 스트림이나 백그라운드 작업이 화면 응답 자리를 차지하지 않도록)
+    public static final String LLM = "llm";                       // 화면 응답 (chat, 도구 호출, 명령 추출)
+    public static final String LLM_STREAM = "llm-stream";         // 스트리밍 응답 (스트림이 끝날 때까지 자리 차지)
+    public static final String LLM_BACKGROUND = "llm-background"; // 요약/제목 생성 (실패 시 건너뜀)
+    public static final String TTS = "tts";
+    public static final String NAVER = "naver";
+
+    private static final String PREFIX = "chatbot.resilience.";
+
+    private final Environment environment;
+    private final MeterRegistry meterRegistry;
+
+    private final ConcurrentHashMap<String, DependencyGuard> guards = new ConcurrentHashMap<>();
+
+    public DependencyGuard get(String dependency) {
+        return guards.computeIfAbsent(dependency,
+                name -> new DependencyGuard(name, settingsOf(name), meterRegistry));
+    }
+
+    private DependencyGuard.Settings settingsOf(String name) {
+        return new DependencyGuard.Settings(
+                property(name, "max-concurrent", Integer.class, 20),
+                property(name, "failure-rate-threshold", Double.class, 0.5),
+                property(name, "slow-call-ms", Long.class, 10000L),
+                property(name, "window-size", Integer.class, 20),
+                property(name, "minimum-calls", Integer.class, 10),
+                property(name, "open-ms", Long.class, 30000L),
+                property(name, "half-open-probes", Integer.class, 3));
+    }
+
+    private <T> T property(String name, String key, Class<T> type, T defaultValue) {
+        T fallback = environment.getProperty(PREFIX + "defaults." + key, type, defaultValue);
+        return environment.getProperty(PREFIX + name + "." + key, type, fallback);
+    }
+}
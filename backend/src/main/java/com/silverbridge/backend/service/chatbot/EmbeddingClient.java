@@ -0,0 +1,18 @@
+package com.silverbridge.backend.service.chatbot;
+
+/**
+ * 문장 임베딩 클라이언트 (벡터 검색용)
+ * - chatbot.embedding.provider 설정으로 구현체 선택 (local: 로컬 해싱 임베딩, openai: OpenAI 임베딩 API)
+ * - 반환 벡터는 L2 정규화되어 있어 내적이 곧 코사인 유사도
+ */
+public interface EmbeddingClient {
+
+    // 텍스트 임베딩 (길이 = dimensions())
+    float[] embed(String text);
+
+    // 임베딩 차원 수
+    int dimensions();
+
+    // 임베딩 모델 식별자 (모델이 바뀌면 저장된 벡터 인덱스를 버리고 다시 만듦)
+    String modelId();
+}
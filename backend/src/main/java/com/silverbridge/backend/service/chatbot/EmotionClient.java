@@ -1,69 +1,265 @@
 package com.silverbridge.backend.service.chatbot;
 
+import com.silverbridge.backend.domain.chatbot.Emotion;
+import com.silverbridge.backend.dto.chatbot.EmotionBatchRequest;
+import com.silverbridge.backend.dto.chatbot.EmotionBatchResponse;
 import com.silverbridge.backend.dto.chatbot.EmotionRequest;
 import com.silverbridge.backend.dto.chatbot.EmotionResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
-import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
 /**
  * 감정 분석 FastAPI 서버 API 호출 클라이언트
+ * - 먼저 로컬 감정 사전(EmotionLexicon)으로 분류하여 확실한 문장은 서버 호출 없이 반환
+ * - 서버 호출이 실패하거나 분석에 실패하면 로컬 분류 결과로 대체 ("분석실패" 같은 값이 저장되지 않게 함)
+ * - 서버의 한글 라벨은 여기서 Emotion으로 변환 (알 수 없는 라벨은 분석 실패로 처리)
+ * - 최근 분석 결과를 LRU 캐시에 보관하여 같은 문장("네", "고마워요" 등)은 서버 호출 없이 반환
+ * - 동시에 들어온 요청은 window-ms 동안 모아 한 번의 일괄 요청으로 전송 (서버에서 묶음 추론)
+ *   · 처음 도착한 요청 스레드가 모으는 역할을 맡아 직접 전송하고, 나머지는 결과만 기다림 (별도 스레드 없음)
+ *   · 묶음이 max-batch-size에 도달하면 기다리지 않고 바로 전송
+ *   · 모인 문장이 하나뿐이면 기존 단건 엔드포인트 사용
+ * - 메트릭: emotion.batch.size, emotion.batch.wait (분포), emotion.cache.requests{result=hit|miss}, emotion.cache.size,
+ *   emotion.fallback (서버 대신 로컬 결과 사용)
  */
 @Component
 @RequiredArgsConstructor
 public class EmotionClient {
 
-    // RestTemplateConfig에서 등록된 빈 주입
-    private final RestTemplate restTemplate;
+    // RestTemplateConfig에서 등록된 빈 주입 (감정 분석 서버 전용 대기 시간)
+    private final RestTemplate emotionRestTemplate;
+
+    // 동시 호출 제한 + 서킷 브레이커 (실패/차단 시 로컬 분류 결과)
+    private final DependencyGuards dependencyGuards;
+
+    // 로컬 감정 사전 분류기 (빠른 경로 + 대체값)
+    private final EmotionLexicon emotionLexicon;
+
+    private final MeterRegistry meterRegistry;
 
     // [수정] application.yml의 "chatbot.emotion.api.endpoint" 키를 읽도록 변경
     @Value("${chatbot.emotion.api.endpoint}")
     private String emotionEndpoint;
 
+    // 일괄 분석 엔드포인트 ({"texts": [...]} → {"emotions": [...]})
+    @Value("${chatbot.emotion.api.batch-endpoint:${chatbot.emotion.api.endpoint}/batch}")
+    private String batchEndpoint;
+
+    // 요청을 모으는 최대 시간
+    @Value("${chatbot.emotion.batch.window-ms:5}")
+    private long windowMs;
+
+    @Value("${chatbot.emotion.batch.max-size:16}")
+    private int maxBatchSize;
+
+    @Value("${chatbot.emotion.cache.max-entries:2000}")
+    private int cacheMaxEntries;
+
+    // 모으는 중인 묶음 (lock으로 보호)
+    private final Object lock = new Object();
+    private List<Pending> collecting = new ArrayList<>();
+
+    // 접근 순서 기반 LinkedHashMap (가장 오래 사용하지 않은 문장이 맨 앞)
+    private final LinkedHashMap<String, Emotion> cache = new LinkedHashMap<>(256, 0.75f, true);
+
+    private DistributionSummary batchSize;
+    private Timer batchWait;
+    private Counter cacheHits;
+    private Counter cacheMisses;
+    private Counter fallbacks;
+
+    @PostConstruct
+    public void init() {
+        batchSize = DistributionSummary.builder("emotion.batch.size")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        batchWait = Timer.builder("emotion.batch.wait")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        cacheHits = Counter.builder("emotion.cache.requests").tag("result", "hit").register(meterRegistry);
+        cacheMisses = Counter.builder("emotion.cache.requests").tag("result", "miss").register(meterRegistry);
+        fallbacks = Counter.builder("emotion.fallback").register(meterRegistry);
+        Gauge.builder("emotion.cache.size", this, c -> c.cacheSize()).register(meterRegistry);
+    }
+
     /**
      * 텍스트를 감정 분석 서버로 전송하여 감정 결과를 반환
      *
      * @param text ASR(STT)을 거친 텍스트
-     * @return 분석된 감정 문자열 (예: "기쁨", "슬픔")
+     * @return 분석된 감정 (예: 기쁨, 슬픔)
      */
-    public String analyze(String text) {
+    public Emotion analyze(String text) {
         // 텍스트가 비어있는 경우, 기본값 "중립" 반환
         if (text == null || text.isBlank()) {
-            return "중립";
+            return Emotion.NEUTRAL;
         }
 
+        // 1. 로컬 감정 사전으로 분류 (확실하면 바로 반환)
+        String key = text.strip();
+        EmotionLexicon.Result local = emotionLexicon.classify(key);
+        if (local.isConfident()) {
+            return local.getEmotion();
+        }
+
+        // 2. 캐시 확인
+        Emotion cached = cacheGet(key);
+        if (cached != null) {
+            cacheHits.increment();
+            return cached;
+        }
+        cacheMisses.increment();
+
+        // 3. 모으는 중인 묶음에 추가 (묶음이 가득 찼으면 새 묶음 시작)
+        Pending mine = new Pending(key, local.getEmotion());
+        List<Pending> batch;
+        boolean leader;
+        synchronized (lock) {
+            if (collecting.size() >= maxBatchSize) {
+                collecting = new ArrayList<>();
+            }
+            batch = collecting;
+            batch.add(mine);
+            leader = batch.size() == 1;
+            if (batch.size() >= maxBatchSize) lock.notifyAll();
+        }
+
+        // 4. 묶음의 첫 요청이면 window-ms 동안(또는 가득 찰 때까지) 기다린 뒤 직접 전송
+        if (leader) {
+            synchronized (lock) {
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(windowMs);
+                long remaining;
+                while (batch.size() < maxBatchSize && (remaining = deadline - System.nanoTime()) > 0) {
+                    try {
+                        TimeUnit.NANOSECONDS.timedWait(lock, remaining);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        break;
+                    }
+                }
+                // 이후 도착한 요청은 새 묶음으로
+                if (collecting == batch) collecting = new ArrayList<>();
+            }
+            send(batch);
+        }
+
+        return mine.result.join();
+    }
+
+    // 묶음 전송 후 각 요청에 결과 전달 (같은 문장은 한 번만 분석)
+    private void send(List<Pending> batch) {
+        long now = System.nanoTime();
+        for (Pending p : batch) batchWait.record(now - p.enqueuedAt, TimeUnit.NANOSECONDS);
+
+        List<String> texts = batch.stream().map(p -> p.text).distinct().toList();
+        batchSize.record(texts.size());
+
+        Map<String, Emotion> results;
         try {
-            // 1. HTTP 헤더 설정 (JSON 타입)
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
-
-            // 2. HTTP 본문(Body) 설정 ({"text": "..."})
-            EmotionRequest requestPayload = new EmotionRequest(text);
-
-            // 3. 헤더와 본문을 합친 HTTP 요청 엔티티 생성
-            HttpEntity<EmotionRequest> requestEntity = new HttpEntity<>(requestPayload, headers);
-
-            // 4. FastAPI 서버에 POST 요청 전송 및 응답 수신
-            // (이제 emotionEndpoint는 "http://117.17.185.204:8001/emotion/analyze" 값을 가짐)
-            EmotionResponse response = restTemplate.postForObject(emotionEndpoint, requestEntity, EmotionResponse.class);
-
-            // 5. 응답 결과에서 감정 텍스트 추출
-            if (response != null && response.getEmotion() != null) {
-                return response.getEmotion();
-            } else {
-                // 응답이 비정상일 경우 "분석실패" 반환
-                return "분석실패";
+            results = dependencyGuards.get(DependencyGuards.EMOTION).call(() -> request(texts), () -> null);
+        } catch (RuntimeException e) {
+            results = null;
+        }
+
+        for (Pending p : batch) {
+            // 네트워크 오류, 서버 지연, 분석 실패 시 로컬 분류 결과로 대화 진행
+            Emotion emotion = results == null ? null : results.get(p.text);
+            if (emotion == null) {
+                fallbacks.increment();
+                emotion = p.fallback;
             }
+            p.result.complete(emotion);
+        }
+    }
+
+    // 서버 호출 (실패 시 예외), 정상 분석 결과만 캐시에 저장 (분석 실패한 문장은 결과에서 제외)
+    private Map<String, Emotion> request(List<String> texts) {
+        // 1. HTTP 헤더 설정 (JSON 타입)
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+
+        List<String> emotions;
+        if (texts.size() == 1) {
+            // 2. 단건: {"text": "..."} → {"emotion": "..."}
+            EmotionResponse response = emotionRestTemplate.postForObject(
+                    emotionEndpoint, new HttpEntity<>(new EmotionRequest(texts.get(0)), headers), EmotionResponse.class);
+            // 응답이 비정상일 경우 빈 라벨 (분석 실패)
+            emotions = Collections.singletonList(response != null ? response.getEmotion() : null);
+        } else {
+            // 3. 일괄: {"texts": [...]} → {"emotions": [...]} (같은 순서)
+            EmotionBatchResponse response = emotionRestTemplate.postForObject(
+                    batchEndpoint, new HttpEntity<>(new EmotionBatchRequest(texts), headers), EmotionBatchResponse.class);
+            if (response == null || response.getEmotions() == null || response.getEmotions().size() != texts.size()) {
+                throw new IllegalStateException("감정 분석 일괄 응답 개수 불일치");
+            }
+            emotions = response.getEmotions();
+        }
+
+        Map<String, Emotion> results = new LinkedHashMap<>();
+        for (int i = 0; i < texts.size(); i++) {
+            Emotion emotion = Emotion.fromLabel(emotions.get(i));
+            if (emotion == null) continue;
+            results.put(texts.get(i), emotion);
+            cachePut(texts.get(i), emotion);
+        }
+        return results;
+    }
+
+    private Emotion cacheGet(String key) {
+        synchronized (cache) {
+            return cache.get(key);
+        }
+    }
+
+    // 저장 후 최대 개수를 넘으면 오래 사용하지 않은 문장부터 제거
+    private void cachePut(String key, Emotion emotion) {
+        synchronized (cache) {
+            cache.put(key, emotion);
+            Iterator<String> it = cache.keySet().iterator();
+            while (cache.size() > cacheMaxEntries && it.hasNext()) {
+                it.next();
+                it.remove();
+            }
+        }
+    }
+
+    private int cacheSize() {
+        synchronized (cache) {
+            return cache.size();
+        }
+    }
+
+    /**
+     * 묶음에 들어간 요청 하나
+     */
+    private static class Pending {
+        final String text;
+        // 서버 결과를 받지 못했을 때 사용할 로컬 분류 결과
+        final Emotion fallback;
+        final long enqueuedAt = System.nanoTime();
+        final CompletableFuture<Emotion> result = new CompletableFuture<>();
 
-        } catch (RestClientException e) {
-            // API 호출 중 네트워크 오류 등 발생 시
-            e.printStackTrace();
-            return "오류"; // 오류 발생 시 "오류" 반환
+        Pending(String text, Emotion fallback) {
+            this.text = text;
+            this.fallback = fallback;
         }
     }
-}
\ No newline at end of file
+}
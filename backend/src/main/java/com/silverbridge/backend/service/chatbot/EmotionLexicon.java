@@ -0,0 +1,185 @@
+package com.silverbridge.backend.service.chatbot;
+
+import com.silverbridge.backend.domain.chatbot.Emotion;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * 감정 분석 서버 앞단의 로컬 감정 사전 분류기
+ * - 감정 단서(어간/구절)를 Aho-Corasick 오토마톤으로 한 번에 검색하여 감정별 가중치 합으로 점수를 매김
+ * - "안 좋", "걱정 없" 같은 부정 구절은 자기 감정 점수를 더하고, 구절과 겹치는 단서는 점수에 넣지 않음
+ * - 구절로 등록되지 않은 부정("기쁘지 않아", "반갑지도 않아", "안 슬퍼")이 붙은 단서는 점수에서 빼고 서버 모델로 넘김
+ * - 신뢰도(최고 점수 / (전체 점수 + 1))가 기준 이상이면 로컬에서 확정, 아니면 서버 모델로 넘김
+ * - 서버 호출이 실패했을 때도 단서가 있으면 이 결과를 대체값으로 사용 (없으면 "중립")
+ * - 사전은 기쁨/슬픔/분노/불안 단서만 다룸 (당황/상처는 서버 모델에 맡김)
+ * - 메트릭: emotion.local.confidence{route=local|remote}
+ */
+@Component
+public class EmotionLexicon {
+
+    // 강한 단서 / 약한 단서 가중치
+    private static final double STRONG = 2.0;
+    private static final double WEAK = 1.0;
+
+    // 단서 바로 뒤 (같은 어절 안의) "지 않", "지도 않", "질 않"
+    private static final Pattern NEGATED_AFTER = Pattern.compile("^[가-힣]*?(지|지도|질)\\s*않");
+    // 단서 바로 앞의 "안"
+    private static final Pattern NEGATED_BEFORE = Pattern.compile("(^|\\s)안\\s*$");
+
+    private final KeywordAutomaton<Cue> automaton;
+    private final DistributionSummary localConfidence;
+    private final DistributionSummary remoteConfidence;
+
+    // 신뢰도가 이 값 이상이면 로컬에서 확정 (강한 단서 하나 = 0.67)
+    @Value("${chatbot.emotion.local.confidence-threshold:0.65}")
+    private double confidenceThreshold;
+
+    public EmotionLexicon(MeterRegistry meterRegistry) {
+        this.automaton = new KeywordAutomaton<>(buildCues());
+        this.localConfidence = confidenceSummary(meterRegistry, "local");
+        this.remoteConfidence = confidenceSummary(meterRegistry, "remote");
+    }
+
+    /**
+     * 텍스트의 감정 분류
+     *
+     * @return 감정과 신뢰도 (단서가 없으면 중립, 신뢰도 0)
+     */
+    public Result classify(String text) {
+        List<KeywordAutomaton.Match<Cue>> matches = automaton.findAll(text);
+
+        // 1. 감정별 점수 합산 (부정 구절과 겹치는 단서는 제외, 그 밖의 부정이 붙은 단서는 제외 후 서버로)
+        Map<Emotion, Double> scores = new EnumMap<>(Emotion.class);
+        boolean negated = false;
+        for (KeywordAutomaton.Match<Cue> match : matches) {
+            Cue cue = match.getValue();
+            if (!cue.isNegation()) {
+                if (overlapsNegation(match, matches)) continue;
+                if (isNegated(text, match)) {
+                    negated = true;
+                    continue;
+                }
+            }
+            scores.merge(cue.getEmotion(), cue.getWeight(), Double::sum);
+        }
+
+        // 2. 최고 점수 감정과 신뢰도
+        Emotion emotion = Emotion.NEUTRAL;
+        double top = 0;
+        double total = 0;
+        for (Map.Entry<Emotion, Double> entry : scores.entrySet()) {
+            double score = Math.max(0, entry.getValue());
+            total += score;
+            if (score > top) {
+                top = score;
+                emotion = entry.getKey();
+            }
+        }
+        double confidence = top / (total + 1.0);
+
+        boolean confident = !negated && top > 0 && confidence >= confidenceThreshold;
+        (confident ? localConfidence : remoteConfidence).record(confidence);
+        return new Result(emotion, confidence, confident);
+    }
+
+    // 부정 구절("안 좋", "걱정 없" 등)과 위치가 겹치는 단서인지
+    private static boolean overlapsNegation(KeywordAutomaton.Match<Cue> match, List<KeywordAutomaton.Match<Cue>> matches) {
+        for (KeywordAutomaton.Match<Cue> other : matches) {
+            if (other.getValue().isNegation() && other.getStart() < match.getEnd() && match.getStart() < other.getEnd()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // 단서 바로 앞뒤에 부정이 붙었는지 ("기쁘지 않아", "좋아지질 않네", "안 슬퍼")
+    private static boolean isNegated(String text, KeywordAutomaton.Match<Cue> match) {
+        return NEGATED_AFTER.matcher(text.substring(match.getEnd())).find()
+                || NEGATED_BEFORE.matcher(text.substring(0, match.getStart())).find();
+    }
+
+    // 노인 일상 대화에서 자주 나오는 감정 표현 사전
+    private static Map<String, Cue> buildCues() {
+        Map<String, Cue> cues = new HashMap<>();
+        // "좋"만으로는 "좋겠는데"(바람), "좋아지질 않네"처럼 반대 뜻도 많아 활용형만 사용
+        put(cues, Emotion.JOY, STRONG, "행복", "기뻐", "기쁘", "기쁜", "신나", "신난", "즐거", "즐겁", "좋아", "좋았", "좋네", "좋다",
+                "최고", "뿌듯",
+                "반가", "반갑", "재밌", "재미있", "고마", "고맙", "감사", "설레");
+        put(cues, Emotion.JOY, WEAK, "괜찮", "다행", "웃", "맛있");
+        put(cues, Emotion.SADNESS, STRONG, "슬퍼", "슬프", "슬픈", "우울", "외로", "외롭", "쓸쓸", "눈물", "울었", "울고", "보고 싶",
+                "보고싶", "그리워", "그립", "서운", "속상", "허전", "힘들", "힘드", "지쳐", "지친", "섭섭");
+        put(cues, Emotion.SADNESS, WEAK, "아파", "아프", "혼자", "돌아가셨", "재미없", "재미 없", "심심");
+        put(cues, Emotion.ANGER, STRONG, "화나", "화가", "화났", "짜증", "열받", "열 받", "분하", "억울", "괘씸", "미워", "밉",
+                "어이없", "기가 막");
+        put(cues, Emotion.ANGER, WEAK, "싫어", "싫다", "시끄러", "답답");
+        put(cues, Emotion.ANXIETY, STRONG, "불안", "걱정", "무서", "무섭", "두려", "두렵", "겁나", "겁이", "초조", "긴장", "떨려",
+                "조마조마");
+        put(cues, Emotion.ANXIETY, WEAK, "어떡", "어쩌지", "잠이 안", "잠을 못", "깜빡");
+
+        // 부정 구절: 자기 감정 점수 (겹치는 단서는 점수에서 제외)
+        negate(cues, Emotion.SADNESS, STRONG, "안 좋", "안좋", "좋지 않", "좋지않", "좋지 못");
+        negate(cues, Emotion.SADNESS, STRONG, "안 행복", "행복하지 않", "행복하지않");
+        negate(cues, Emotion.SADNESS, STRONG, "즐겁지 않", "즐겁지않");
+        negate(cues, Emotion.SADNESS, STRONG, "안 괜찮", "안괜찮", "괜찮지 않", "괜찮지않");
+        negate(cues, Emotion.JOY, WEAK, "걱정 없", "걱정없", "걱정 마", "걱정마", "걱정 안", "걱정은 안");
+        negate(cues, Emotion.JOY, WEAK, "무서울 것 없", "안 무서");
+        negate(cues, Emotion.JOY, WEAK, "안 힘들", "힘들지 않", "힘들지않");
+        negate(cues, Emotion.JOY, WEAK, "안 아프", "아프지 않", "아프지않", "안 아파");
+        return cues;
+    }
+
+    private static void put(Map<String, Cue> cues, Emotion emotion, double weight, String... keywords) {
+        for (String keyword : keywords) {
+            cues.put(keyword, new Cue(emotion, weight, false));
+        }
+    }
+
+    private static void negate(Map<String, Cue> cues, Emotion emotion, double weight, String... phrases) {
+        for (String phrase : phrases) {
+            cues.put(phrase, new Cue(emotion, weight, true));
+        }
+    }
+
+    private static DistributionSummary confidenceSummary(MeterRegistry registry, String route) {
+        return DistributionSummary.builder("emotion.local.confidence")
+                .description("로컬 감정 분류기의 판단 신뢰도")
+                .tag("route", route)
+                .publishPercentileHistogram()
+                .minimumExpectedValue(0.01)
+                .maximumExpectedValue(1.0)
+                .register(registry);
+    }
+
+    @Getter
+    @AllArgsConstructor
+    private static class Cue {
+        private final Emotion emotion;
+        private final double weight;
+        // 부정 구절 여부 (겹치는 단서의 점수를 대신함)
+        private final boolean negation;
+    }
+
+    /**
+     * 감정 분류 결과
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class Result {
+        // 감정 (단서가 없으면 중립)
+        private final Emotion emotion;
+        // 판단 신뢰도 (0~1)
+        private final double confidence;
+        // 로컬에서 확정했는지 여부 (false면 서버 모델 필요)
+        private final boolean confident;
+    }
+}
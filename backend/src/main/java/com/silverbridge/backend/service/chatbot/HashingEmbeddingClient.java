@@ -0,0 +1,53 @@
+package com.silverbridge.backend.service.chatbot;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.zip.CRC32;
+
+/**
+ * 로컬 해싱 임베딩 (외부 호출 없음, 같은 입력이면 항상 같은 벡터)
+ * - 한국어 글자 2-gram(WelfareIndex와 동일한 토큰화)을 해시하여 고정 차원 벡터에 누적 (feature hashing)
+ * - 의미 유사도가 아닌 표면 유사도이므로, 운영에서는 openai 구현체 사용 권장
+ */
+@Component
+@ConditionalOnProperty(name = "chatbot.embedding.provider", havingValue = "local", matchIfMissing = true)
+public class HashingEmbeddingClient implements EmbeddingClient {
+
+    @Value("${chatbot.embedding.local.dimensions:512}")
+    private int dimensions;
+
+    @Override
+    public float[] embed(String text) {
+        float[] vector = new float[dimensions];
+        for (String term : WelfareIndex.tokenize(text)) {
+            CRC32 crc = new CRC32();
+            crc.update(term.getBytes(StandardCharsets.UTF_8));
+            long hash = crc.getValue();
+            // 해시 충돌이 한쪽으로 쌓이지 않도록 부호도 해시로 결정
+            vector[(int) (hash % dimensions)] += ((hash >>> 16) & 1) == 0 ? 1f : -1f;
+        }
+        return normalize(vector);
+    }
+
+    @Override
+    public int dimensions() {
+        return dimensions;
+    }
+
+    @Override
+    public String modelId() {
+        return "local-hashing-" + dimensions;
+    }
+
+    static float[] normalize(float[] vector) {
+        double norm = 0;
+        for (float v : vector) norm += v * v;
+        if (norm == 0) return vector;
+        float scale = (float) (1 / Math.sqrt(norm));
+        for (int i = 0; i < vector.length; i++) vector[i] *= scale;
+        return vector;
+    }
+}
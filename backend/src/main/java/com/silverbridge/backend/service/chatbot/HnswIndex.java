@@ -0,0 +1,316 @@
+package com.silverbridge.backend.service.chatbot;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Random;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * HNSW(Hierarchical Navigable Small World) 근사 최근접 이웃 인덱스
+ * - 벡터는 L2 정규화되어 있다고 가정하고 내적(코사인 유사도)으로 비교
+ * - 벡터는 하나의 float 배열, 연결 정보는 노드/층별 int 배열로 보관 (객체 생성 최소화)
+ * - 삽입은 쓰기 락, 검색은 읽기 락 (삽입은 드물고 검색이 대부분)
+ * - 노드 번호는 삽입 순서대로 0부터 부여되며, 호출 측은 이 번호로 부가 정보를 찾음
+ */
+class HnswIndex {
+
+    private static final int MAGIC = 0x484E5357; // "HNSW"
+
+    private final int dimensions;
+    private final int m;
+    private final int maxM0;
+    private final int efConstruction;
+    private final double levelMultiplier;
+    private final Random random = new Random(42);
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private float[] vectors;
+    // links[node][level] = 이웃 노드 번호
+    private int[][][] links;
+    private int size = 0;
+    private int entryPoint = -1;
+    private int maxLevel = -1;
+
+    HnswIndex(int dimensions, int m, int efConstruction) {
+        this.dimensions = dimensions;
+        this.m = m;
+        this.maxM0 = m * 2;
+        this.efConstruction = efConstruction;
+        this.levelMultiplier = 1 / Math.log(m);
+        this.vectors = new float[16 * dimensions];
+        this.links = new int[16][][];
+    }
+
+    int size() {
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    int dimensions() {
+        return dimensions;
+    }
+
+    /**
+     * 벡터 추가
+     *
+     * @return 부여된 노드 번호
+     */
+    int add(float[] vector) {
+        if (vector.length != dimensions) throw new IllegalArgumentException("벡터 차원 불일치: " + vector.length);
+
+        lock.writeLock().lock();
+        try {
+            int node = size;
+            ensureCapacity(node + 1);
+            System.arraycopy(vector, 0, vectors, node * dimensions, dimensions);
+
+            int level = randomLevel();
+            links[node] = new int[level + 1][];
+            for (int l = 0; l <= level; l++) links[node][l] = new int[0];
+            size++;
+
+            if (entryPoint < 0) {
+                entryPoint = node;
+                maxLevel = level;
+                return node;
+            }
+
+            // 1. 상위 층에서는 가장 가까운 노드 하나만 따라 내려감
+            int current = entryPoint;
+            for (int l = maxLevel; l > level; l--) {
+                current = greedyClosest(vector, current, l);
+            }
+
+            // 2. 새 노드가 속한 층부터 0층까지 후보를 찾아 양방향 연결
+            for (int l = Math.min(level, maxLevel); l >= 0; l--) {
+                List<Candidate> candidates = searchLayer(vector, current, efConstruction, l);
+                int maxLinks = l == 0 ? maxM0 : m;
+                int[] neighbors = candidates.stream()
+                        .limit(maxLinks)
+                        .mapToInt(c -> c.node)
+                        .toArray();
+                links[node][l] = neighbors;
+                for (int neighbor : neighbors) {
+                    connect(neighbor, node, l, maxLinks);
+                }
+                current = candidates.get(0).node;
+            }
+
+            if (level > maxLevel) {
+                maxLevel = level;
+                entryPoint = node;
+            }
+            return node;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 유사도가 높은 순으로 최대 k개 검색
+     *
+     * @param ef 탐색 후보 수 (클수록 정확하지만 느림, k 이상)
+     */
+    List<Candidate> search(float[] query, int k, int ef) {
+        lock.readLock().lock();
+        try {
+            if (entryPoint < 0) return List.of();
+            int current = entryPoint;
+            for (int l = maxLevel; l > 0; l--) {
+                current = greedyClosest(query, current, l);
+            }
+            List<Candidate> result = searchLayer(query, current, Math.max(ef, k), 0);
+            return result.size() > k ? new ArrayList<>(result.subList(0, k)) : result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 한 층에서 더 가까운 이웃이 없을 때까지 이동
+    private int greedyClosest(float[] query, int start, int level) {
+        int current = start;
+        float best = similarity(query, current);
+        boolean changed = true;
+        while (changed) {
+            changed = false;
+            for (int neighbor : links[current][level]) {
+                float s = similarity(query, neighbor);
+                if (s > best) {
+                    best = s;
+                    current = neighbor;
+                    changed = true;
+                }
+            }
+        }
+        return current;
+    }
+
+    // 한 층에서 ef개 후보를 유지하며 탐색, 유사도 내림차순으로 반환
+    private List<Candidate> searchLayer(float[] query, int start, int ef, int level) {
+        boolean[] visited = new boolean[size];
+        PriorityQueue<Candidate> toVisit = new PriorityQueue<>(Comparator.comparingDouble((Candidate c) -> c.similarity).reversed());
+        PriorityQueue<Candidate> found = new PriorityQueue<>(Comparator.comparingDouble((Candidate c) -> c.similarity));
+
+        Candidate first = new Candidate(start, similarity(query, start));
+        visited[start] = true;
+        toVisit.add(first);
+        found.add(first);
+
+        while (!toVisit.isEmpty()) {
+            Candidate c = toVisit.poll();
+            if (found.size() >= ef && c.similarity < found.peek().similarity) break;
+
+            for (int neighbor : links[c.node][level]) {
+                if (visited[neighbor]) continue;
+                visited[neighbor] = true;
+                float s = similarity(query, neighbor);
+                if (found.size() < ef || s > found.peek().similarity) {
+                    Candidate next = new Candidate(neighbor, s);
+                    toVisit.add(next);
+                    found.add(next);
+                    if (found.size() > ef) found.poll();
+                }
+            }
+        }
+
+        List<Candidate> result = new ArrayList<>(found);
+        result.sort(Comparator.comparingDouble((Candidate c) -> c.similarity).reversed());
+        return result;
+    }
+
+    // node의 이웃 목록에 target 추가, 최대 개수를 넘으면 node와 가장 덜 유사한 이웃을 제거
+    private void connect(int node, int target, int level, int maxLinks) {
+        int[] current = links[node][level];
+        int[] extended = Arrays.copyOf(current, current.length + 1);
+        extended[current.length] = target;
+        if (extended.length <= maxLinks) {
+            links[node][level] = extended;
+            return;
+        }
+
+        float[] base = vectorOf(node);
+        links[node][level] = Arrays.stream(extended)
+                .boxed()
+                .sorted(Comparator.comparingDouble((Integer n) -> similarity(base, n)).reversed())
+                .limit(maxLinks)
+                .mapToInt(Integer::intValue)
+                .toArray();
+    }
+
+    private float similarity(float[] query, int node) {
+        int offset = node * dimensions;
+        float dot = 0;
+        for (int i = 0; i < dimensions; i++) {
+            dot += query[i] * vectors[offset + i];
+        }
+        return dot;
+    }
+
+    // 저장된 벡터 사본 (재색인 시 바뀌지 않은 문서의 임베딩 재사용)
+    float[] vector(int node) {
+        lock.readLock().lock();
+        try {
+            return vectorOf(node);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private float[] vectorOf(int node) {
+        return Arrays.copyOfRange(vectors, node * dimensions, (node + 1) * dimensions);
+    }
+
+    private int randomLevel() {
+        return (int) (-Math.log(1 - random.nextDouble()) * levelMultiplier);
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (links.length >= capacity) return;
+        int newCapacity = Math.max(capacity, links.length * 2);
+        vectors = Arrays.copyOf(vectors, newCapacity * dimensions);
+        links = Arrays.copyOf(links, newCapacity);
+    }
+
+    // --- 스냅샷 (메모리 매핑 파일 저장/복원용) ---
+
+    // 직렬화 크기 (바이트)
+    long byteSize() {
+        lock.readLock().lock();
+        try {
+            long bytes = 4L * 7 + 4L * size * dimensions;
+            for (int node = 0; node < size; node++) {
+                bytes += 4;
+                for (int[] neighbors : links[node]) bytes += 4 + 4L * neighbors.length;
+            }
+            return bytes;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    void writeTo(ByteBuffer buffer) {
+        lock.readLock().lock();
+        try {
+            buffer.putInt(MAGIC).putInt(dimensions).putInt(m).putInt(efConstruction)
+                    .putInt(size).putInt(entryPoint).putInt(maxLevel);
+            buffer.asFloatBuffer().put(vectors, 0, size * dimensions);
+            buffer.position(buffer.position() + 4 * size * dimensions);
+            for (int node = 0; node < size; node++) {
+                buffer.putInt(links[node].length);
+                for (int[] neighbors : links[node]) {
+                    buffer.putInt(neighbors.length);
+                    for (int neighbor : neighbors) buffer.putInt(neighbor);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    static HnswIndex readFrom(ByteBuffer buffer) {
+        if (buffer.getInt() != MAGIC) throw new IllegalStateException("HNSW 스냅샷 형식이 아닙니다.");
+        int dimensions = buffer.getInt();
+        int m = buffer.getInt();
+        int efConstruction = buffer.getInt();
+        int size = buffer.getInt();
+
+        HnswIndex index = new HnswIndex(dimensions, m, efConstruction);
+        index.entryPoint = buffer.getInt();
+        index.maxLevel = buffer.getInt();
+        index.ensureCapacity(Math.max(size, 1));
+        buffer.asFloatBuffer().get(index.vectors, 0, size * dimensions);
+        buffer.position(buffer.position() + 4 * size * dimensions);
+        for (int node = 0; node < size; node++) {
+            int levels = buffer.getInt();
+            index.links[node] = new int[levels][];
+            for (int l = 0; l < levels; l++) {
+                int[] neighbors = new int[buffer.getInt()];
+                for (int i = 0; i < neighbors.length; i++) neighbors[i] = buffer.getInt();
+                index.links[node][l] = neighbors;
+            }
+        }
+        index.size = size;
+        return index;
+    }
+
+    /**
+     * 검색 결과 (노드 번호, 유사도)
+     */
+    static class Candidate {
+        final int node;
+        final float similarity;
+
+        Candidate(int node, float similarity) {
+            this.node = node;
+            this.similarity = similarity;
+        }
+    }
+}
@@ -0,0 +1,249 @@
+package com.silverbridge.backend.service.chatbot;
+
+import com.silverbridge.backend.dto.chatbot.ScheduleCommandDto;
+import com.silverbridge.backend.dto.chatbot.ScheduleCommandDto.Action;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * LlmClient.extractCommand 앞단의 로컬 규칙 기반 의도 분류기
+ * - extractCommand 프롬프트의 ADD/CHECK/DELETE/ALARM/NONE 예시에서 뽑은 키워드를 Aho-Corasick 오토마톤으로 한 번에 검색
+ * - 키워드 가중치 합으로 점수를 매겨, 확실한 일반 대화(NONE)와 알림 설정(ALARM)은 로컬에서 결정
+ *   (켜기/끄기 단서에 "지 마", "안", "못" 같은 부정이 붙으면 LLM으로 넘김)
+ * - 일정 추가/조회는 KoreanTemporalParser로 날짜·시간을 풀 수 있을 때만 로컬에서 결정
+ * - 그 밖의 애매한 발화는 LLM으로 넘김
+ * - 메트릭: chatbot.intent.confidence{route=local_none|local_alarm|local_schedule|llm}
+ */
+@Component
+public class IntentRouter {
+
+    // 강한 단서 / 약한 단서 / 날짜·시간 단서 가중치
+    private static final double STRONG = 2.0;
+    private static final double WEAK = 1.0;
+    private static final double TIME_CUE = 0.5;
+
+    // 일정 명령 기본 시간 (extractCommand 프롬프트 규칙과 동일)
+    private static final LocalTime DEFAULT_TIME = LocalTime.of(9, 0);
+
+    // 일정 제목에서 제거할 명령어/조사
+    private static final Pattern COMMAND_WORDS = Pattern.compile(
+            "(잡아\\s*줘|잡아\\s*주세요|잡아|등록\\s*해\\s*줘|등록해|등록|추가\\s*해\\s*줘|추가해|넣어\\s*줘|넣어|기억\\s*해\\s*줘|기억해|일정|스케줄|스케쥴|있어|있나|뭐|확인)");
+
+    // 켜기/끄기 단서 바로 앞뒤의 부정 ("알림 끄지 마", "알람이 안 울려요", "못 꺼요") - 뜻이 뒤집히거나 고장 호소일 수 있음
+    private static final Pattern NEGATED_SWITCH = Pattern.compile(
+            "(^|\\s)(안|못)\\s*(켜|꺼|끄|울)|(켜|꺼|끄|울리)지\\s*(마|말)");
+
+    private final KoreanTemporalParser temporalParser;
+    private final Clock clock;
+    private final KeywordAutomaton<Cue> automaton;
+    private final DistributionSummary localNoneConfidence;
+    private final DistributionSummary localAlarmConfidence;
+    private final DistributionSummary localScheduleConfidence;
+    private final DistributionSummary llmConfidence;
+
+    // NONE 신뢰도가 이 값 이상이면 로컬에서 NONE으로 확정
+    @Value("${chatbot.intent.none-threshold:0.6}")
+    private double noneThreshold;
+
+    // ALARM 신뢰도가 이 값 이상이고 켜기/끄기가 분명하면 로컬에서 ALARM으로 확정
+    @Value("${chatbot.intent.alarm-threshold:0.8}")
+    private double alarmThreshold;
+
+    public IntentRouter(MeterRegistry meterRegistry, KoreanTemporalParser temporalParser, Clock clock) {
+        this.temporalParser = temporalParser;
+        this.clock = clock;
+        this.automaton = new KeywordAutomaton<>(buildCues());
+        this.localNoneConfidence = confidenceSummary(meterRegistry, "local_none");
+        this.localAlarmConfidence = confidenceSummary(meterRegistry, "local_alarm");
+        this.localScheduleConfidence = confidenceSummary(meterRegistry, "local_schedule");
+        this.llmConfidence = confidenceSummary(meterRegistry, "llm");
+    }
+
+    /**
+     * 발화 의도 판별
+     *
+     * @return 로컬에서 확정된 경우 resolved=true와 명령, 아니면 resolved=false (LLM 필요)
+     */
+    public Decision route(String userText) {
+        Map<Kind, Double> scores = new EnumMap<>(Kind.class);
+        for (KeywordAutomaton.Match<Cue> match : automaton.findAll(userText)) {
+            Cue cue = match.getValue();
+            scores.merge(cue.getKind(), cue.getWeight(), Double::sum);
+        }
+
+        double add = scores.getOrDefault(Kind.ADD, 0.0);
+        double check = scores.getOrDefault(Kind.CHECK, 0.0);
+        double delete = scores.getOrDefault(Kind.DELETE, 0.0);
+        double alarm = scores.getOrDefault(Kind.ALARM, 0.0);
+        double time = scores.getOrDefault(Kind.TIME, 0.0);
+        double on = scores.getOrDefault(Kind.ON, 0.0);
+        double off = scores.getOrDefault(Kind.OFF, 0.0);
+
+        double schedule = add + check + delete + time;
+
+        // 1. 알림 설정: 알림 단서가 대부분이고 켜기/끄기 중 하나만 부정 없이 나온 경우
+        if (alarm > 0) {
+            double confidence = alarm / (alarm + schedule);
+            boolean clearSwitch = (on > 0) != (off > 0) && !NEGATED_SWITCH.matcher(userText).find();
+            if (clearSwitch && confidence >= alarmThreshold) {
+                localAlarmConfidence.record(confidence);
+                return Decision.resolved(ScheduleCommandDto.builder()
+                        .action(Action.ALARM)
+                        .alarmOn(on > 0)
+                        .build(), confidence);
+            }
+            llmConfidence.record(confidence);
+            return Decision.escalate(confidence);
+        }
+
+        // 2. 일반 대화: 명령 단서가 거의 없을수록 NONE 신뢰도가 높음
+        double noneConfidence = 1.0 / (1.0 + schedule);
+        if (noneConfidence >= noneThreshold) {
+            localNoneConfidence.record(noneConfidence);
+            return Decision.resolved(ScheduleCommandDto.builder().action(Action.NONE).build(), noneConfidence);
+        }
+
+        // 3. 일정 추가/조회: 날짜·시간을 로컬 해석기로 풀 수 있으면 바로 확정
+        ScheduleCommandDto command = resolveSchedule(userText, add, check, delete);
+        if (command != null) {
+            double confidence = Math.max(add, check) / (add + check + delete);
+            localScheduleConfidence.record(confidence);
+            return Decision.resolved(command, confidence);
+        }
+
+        // 4. 그 외(삭제, 날짜 없는 일정 등)는 LLM으로 넘김
+        llmConfidence.record(noneConfidence);
+        return Decision.escalate(noneConfidence);
+    }
+
+    /**
+     * 일정 추가(ADD)/조회(CHECK) 명령을 로컬에서 구성
+     * - 삭제는 제목 일치가 중요해 LLM에 맡김
+     * - 추가는 "잡아", "등록" 같은 강한 단서가 있을 때만 ("약속", "예약"만으로는 조회/잡담일 수 있음)
+     * - 날짜가 없으면 오늘, 시간이 없으면 09:00 (extractCommand 프롬프트 규칙과 동일)
+     * - 이미 지난 시각에 추가하는 요청("이번주 월요일"이 지난 경우 등)은 LLM에 맡김
+     *
+     * @return 구성할 수 없으면 null
+     */
+    private ScheduleCommandDto resolveSchedule(String userText, double add, double check, double delete) {
+        if (delete > 0 || (add == 0 && check == 0)) return null;
+        // 약한 추가 단서만 있으면 추가인지 조회인지 알 수 없음
+        if (add > 0 && add < STRONG) return null;
+
+        KoreanTemporalParser.Result temporal = temporalParser.parse(userText);
+        if (temporal == null) return null;
+        LocalDate date = temporal.getDate() != null ? temporal.getDate() : LocalDate.now(clock);
+
+        if (add > 0) {
+            String title = extractTitle(userText, temporal.getSpans());
+            if (title.isEmpty()) return null;
+            LocalTime time = temporal.getTime() != null ? temporal.getTime() : DEFAULT_TIME;
+            LocalDateTime start = date.atTime(time);
+            if (start.isBefore(LocalDateTime.now(clock))) return null;
+            return ScheduleCommandDto.builder()
+                    .action(Action.ADD)
+                    .title(title)
+                    .startDateTime(start.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME))
+                    .build();
+        }
+
+        if (temporal.getDate() == null) return null;
+        return ScheduleCommandDto.builder()
+                .action(Action.CHECK)
+                .targetDate(date.toString())
+                .build();
+    }
+
+    // 날짜/시간 표현과 명령어를 지우고 남은 부분을 일정 제목으로 사용 ("내일 2시에 치과 예약 잡아줘" → "치과 예약")
+    private String extractTitle(String userText, List<String> temporalSpans) {
+        String title = userText;
+        for (String span : temporalSpans) {
+            title = title.replace(span, " ");
+        }
+        title = COMMAND_WORDS.matcher(title).replaceAll(" ");
+        title = title.replaceAll("[\\p{Punct}]", " ")
+                .replaceAll("(^|\\s)(에|에는|쯤|좀|나)(?=\\s|$)", " ")
+                .replaceAll("\\s+", " ")
+                .strip();
+        return title.length() > 50 ? title.substring(0, 50) : title;
+    }
+
+    // extractCommand 프롬프트 예시 기반 키워드 사전
+    private static Map<String, Cue> buildCues() {
+        Map<String, Cue> cues = new HashMap<>();
+        put(cues, Kind.ADD, STRONG, "잡아", "등록", "추가해", "넣어", "기억해");
+        put(cues, Kind.ADD, WEAK, "약속", "예약");
+        put(cues, Kind.CHECK, STRONG, "일정", "스케줄", "스케쥴");
+        put(cues, Kind.CHECK, WEAK, "뭐 있", "확인");
+        put(cues, Kind.DELETE, STRONG, "취소", "지워", "삭제", "없애");
+        put(cues, Kind.DELETE, WEAK, "빼줘");
+        put(cues, Kind.TIME, TIME_CUE, "오늘", "내일", "모레", "글피", "이번주", "이번 주", "다음주", "다음 주",
+                "요일", "시에", "시 ", "분에", "오전", "오후", "아침", "점심", "저녁");
+        put(cues, Kind.ALARM, STRONG, "알림", "알람", "방해금지");
+        put(cues, Kind.ON, WEAK, "켜", "울려");
+        put(cues, Kind.OFF, WEAK, "꺼", "끄", "방해", "울리지");
+        return cues;
+    }
+
+    private static void put(Map<String, Cue> cues, Kind kind, double weight, String... keywords) {
+        for (String keyword : keywords) {
+            cues.put(keyword, new Cue(kind, weight));
+        }
+    }
+
+    private static DistributionSummary confidenceSummary(MeterRegistry registry, String route) {
+        return DistributionSummary.builder("chatbot.intent.confidence")
+                .description("로컬 의도 분류기의 판단 신뢰도")
+                .tag("route", route)
+                .publishPercentileHistogram()
+                .minimumExpectedValue(0.01)
+                .maximumExpectedValue(1.0)
+                .register(registry);
+    }
+
+    private enum Kind { ADD, CHECK, DELETE, ALARM, TIME, ON, OFF }
+
+    @Getter
+    @AllArgsConstructor
+    private static class Cue {
+        private final Kind kind;
+        private final double weight;
+    }
+
+    /**
+     * 의도 판별 결과
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class Decision {
+        // 로컬에서 확정했는지 여부 (false면 LLM 호출 필요)
+        private final boolean resolved;
+        // 확정된 명령 (resolved=false면 null)
+        private final ScheduleCommandDto command;
+        // 판단 신뢰도 (0~1)
+        private final double confidence;
+
+        static Decision resolved(ScheduleCommandDto command, double confidence) {
+            return new Decision(true, command, confidence);
+        }
+
+        static Decision escalate(double confidence) {
+            return new Decision(false, null, confidence);
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.silverbridge.backend.service.chatbot;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.*;
+
+/**
+ * 다중 키워드 동시 검색용 Aho-Corasick 오토마톤
+ * - 키워드 수와 관계없이 입력 길이에 비례하는 시간(O(n + 매칭 수))으로 모든 키워드를 찾음
+ * - 생성 후에는 읽기 전용이므로 여러 스레드에서 공유 가능
+ *
+ * @param <T> 키워드에 붙는 값 (예: 의도와 가중치)
+ */
+public class KeywordAutomaton<T> {
+
+    private final Node<T> root = new Node<>();
+
+    /**
+     * @param keywords 키워드 → 값 매핑 (빈 키워드는 무시)
+     */
+    public KeywordAutomaton(Map<String, T> keywords) {
+        // 1. 트라이 구성
+        for (Map.Entry<String, T> entry : keywords.entrySet()) {
+            String keyword = entry.getKey();
+            if (keyword == null || keyword.isEmpty()) continue;
+
+            Node<T> node = root;
+            for (char c : keyword.toCharArray()) {
+                node = node.children.computeIfAbsent(c, k -> new Node<>());
+            }
+            node.outputs.add(new Match<>(keyword, entry.getValue(), keyword.length()));
+        }
+
+        // 2. BFS로 실패 링크 연결
+        Deque<Node<T>> queue = new ArrayDeque<>();
+        for (Node<T> child : root.children.values()) {
+            child.fail = root;
+            queue.add(child);
+        }
+        while (!queue.isEmpty()) {
+            Node<T> node = queue.poll();
+            for (Map.Entry<Character, Node<T>> edge : node.children.entrySet()) {
+                char c = edge.getKey();
+                Node<T> child = edge.getValue();
+
+                Node<T> f = node.fail;
+                while (f != null && !f.children.containsKey(c)) f = f.fail;
+                child.fail = (f == null) ? root : f.children.get(c);
+                // 실패 링크 쪽에서 끝나는 키워드도 함께 매칭되도록 출력 병합
+                child.outputs.addAll(child.fail.outputs);
+                queue.add(child);
+            }
+        }
+    }
+
+    // 텍스트에 등장하는 모든 키워드 매칭 (중복 등장 시 매번 포함, 등장 위치 포함)
+    public List<Match<T>> findAll(String text) {
+        List<Match<T>> matches = new ArrayList<>();
+        if (text == null || text.isEmpty()) return matches;
+
+        Node<T> node = root;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            while (node != root && !node.children.containsKey(c)) node = node.fail;
+            node = node.children.getOrDefault(c, root);
+            for (Match<T> output : node.outputs) {
+                matches.add(new Match<>(output.keyword, output.value, i + 1));
+            }
+        }
+        return matches;
+    }
+
+    // 매칭된 키워드와 그 값
+    @Getter
+    @AllArgsConstructor
+    public static class Match<T> {
+        private final String keyword;
+        private final T value;
+        // 텍스트에서 키워드가 끝나는 위치 (exclusive)
+        private final int end;
+
+        // 텍스트에서 키워드가 시작하는 위치
+        public int getStart() {
+            return end - keyword.length();
+        }
+    }
+
+    private static class Node<T> {
+        private final Map<Character, Node<T>> children = new HashMap<>();
+        private final List<Match<T>> outputs = new ArrayList<>();
+        private Node<T> fail;
+    }
+}
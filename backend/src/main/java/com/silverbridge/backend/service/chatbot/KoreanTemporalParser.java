@@ -0,0 +1,213 @@
+package com.silverbridge.backend.service.chatbot;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.DateTimeException;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 한국어 상대 날짜/시간 표현 해석기
+ * - "내일 2시", "다음주 화요일 오후 3시", "모레 점심", "12월 3일 오전 10시 반" 등을 LocalDate/LocalTime으로 변환
+ * - 기준 시각은 주입된 Clock을 사용하므로 결과가 결정적임
+ * - 시(時)만 말하고 오전/오후가 없으면 1~6시는 오후, 7~11시는 오전으로 해석 (약속 시간의 일반적인 쓰임)
+ * - "밤 12시", "밤 1시", "자정"은 그날 밤이 지난 다음 날 새벽으로 해석
+ * - "이번주 월요일"처럼 이미 지난 날짜도 말한 그대로 해석 (과거 일정 추가 여부는 호출하는 쪽에서 판단)
+ */
+@Component
+@RequiredArgsConstructor
+public class KoreanTemporalParser {
+
+    private static final String HOUR_WORD = "(\\d{1,2}|열한|열두|한|두|세|네|다섯|여섯|일곱|여덟|아홉|열)";
+
+    private static final Pattern MONTH_DAY = Pattern.compile("(\\d{1,2})\\s*월\\s*(\\d{1,2})\\s*일");
+    private static final Pattern RELATIVE_DAY = Pattern.compile("(오늘|내일|모레|글피)");
+    private static final Pattern WEEKDAY = Pattern.compile("(?:(이번\\s*주|다음\\s*주|다다음\\s*주)\\s*)?([월화수목금토일])요일");
+    private static final Pattern AFTER_DAYS = Pattern.compile("(일주일|" + HOUR_WORD + "\\s*(일|주))\\s*(뒤|후)");
+    // "3일간", "3일 동안", "3일째"는 기간이므로 날짜로 보지 않음
+    private static final Pattern DAY_OF_MONTH = Pattern.compile("(\\d{1,2})\\s*일(?!\\s*(뒤|후|간|동안|째|치))");
+
+    private static final Pattern CLOCK_TIME = Pattern.compile(
+            "(?:(오전|오후|아침|낮|저녁|밤|새벽)\\s*)?" + HOUR_WORD + "\\s*시(?=$|\\s|\\d|[에까쯤경부반요가엔,.!?~])(?:\\s*(?:(\\d{1,2})\\s*분|(반)))?");
+    private static final Pattern NAMED_TIME = Pattern.compile("(정오|자정|아침|점심|저녁|밤)");
+
+    private static final Map<String, Integer> NATIVE_NUMBERS = Map.ofEntries(
+            Map.entry("한", 1), Map.entry("두", 2), Map.entry("세", 3), Map.entry("네", 4),
+            Map.entry("다섯", 5), Map.entry("여섯", 6), Map.entry("일곱", 7), Map.entry("여덟", 8),
+            Map.entry("아홉", 9), Map.entry("열", 10), Map.entry("열한", 11), Map.entry("열두", 12));
+
+    private static final String WEEKDAYS = "월화수목금토일";
+
+    private final Clock clock;
+
+    /**
+     * 텍스트에서 날짜/시간 표현을 찾아 해석
+     *
+     * @return 날짜와 시간 중 하나라도 찾으면 결과, 아무것도 없으면 null
+     */
+    public Result parse(String text) {
+        if (text == null || text.isBlank()) return null;
+
+        LocalDate today = LocalDate.now(clock);
+        List<String> spans = new ArrayList<>();
+
+        LocalDate date = parseDate(text, today, spans);
+        LocalTime time = parseTime(text, spans);
+
+        if (date == null && time == null) return null;
+        if (time != null && isAfterMidnight(text, time)) {
+            // "(오늘) 밤 12시" → 다음 날 00:00
+            date = (date != null ? date : today).plusDays(1);
+        }
+        return new Result(date, time, spans);
+    }
+
+    // 날짜: 절대 날짜 > 오늘/내일 > 요일 > N일 뒤 > 일(日) 순으로 처음 해석되는 표현 사용
+    private LocalDate parseDate(String text, LocalDate today, List<String> spans) {
+        Matcher m = MONTH_DAY.matcher(text);
+        if (m.find()) {
+            LocalDate date = safeDate(today.getYear(), Integer.parseInt(m.group(1)), Integer.parseInt(m.group(2)));
+            if (date != null) {
+                spans.add(m.group());
+                // 이미 지난 날짜면 내년으로 해석
+                return date.isBefore(today) ? date.plusYears(1) : date;
+            }
+        }
+
+        m = RELATIVE_DAY.matcher(text);
+        if (m.find()) {
+            spans.add(m.group());
+            return switch (m.group(1)) {
+                case "내일" -> today.plusDays(1);
+                case "모레" -> today.plusDays(2);
+                case "글피" -> today.plusDays(3);
+                default -> today;
+            };
+        }
+
+        m = WEEKDAY.matcher(text);
+        if (m.find()) {
+            spans.add(m.group());
+            DayOfWeek dayOfWeek = DayOfWeek.of(WEEKDAYS.indexOf(m.group(2).charAt(0)) + 1);
+            String week = m.group(1) == null ? null : m.group(1).replaceAll("\\s", "");
+            if (week == null) {
+                // 요일만 말하면 오늘 포함 가장 가까운 해당 요일
+                return today.with(TemporalAdjusters.nextOrSame(dayOfWeek));
+            }
+            int weeks = switch (week) {
+                case "다음주" -> 1;
+                case "다다음주" -> 2;
+                default -> 0;
+            };
+            return today.with(DayOfWeek.MONDAY).plusWeeks(weeks).with(dayOfWeek);
+        }
+
+        m = AFTER_DAYS.matcher(text);
+        if (m.find()) {
+            spans.add(m.group());
+            if ("일주일".equals(m.group(1))) return today.plusWeeks(1);
+            int amount = toNumber(m.group(2));
+            return "주".equals(m.group(3)) ? today.plusWeeks(amount) : today.plusDays(amount);
+        }
+
+        m = DAY_OF_MONTH.matcher(text);
+        if (m.find()) {
+            int day = Integer.parseInt(m.group(1));
+            LocalDate date = safeDate(today.getYear(), today.getMonthValue(), day);
+            if (date != null) {
+                spans.add(m.group());
+                // 이미 지난 날이면 다음 달로 해석
+                return date.isBefore(today) ? safeDate(today.plusMonths(1).getYear(), today.plusMonths(1).getMonthValue(), day) : date;
+            }
+        }
+        return null;
+    }
+
+    // 시간: "오후 3시 반" 같은 시각 표현 > "점심" 같은 때 표현
+    private LocalTime parseTime(String text, List<String> spans) {
+        Matcher m = CLOCK_TIME.matcher(text);
+        if (m.find()) {
+            int hour = toHour(m.group(1), toNumber(m.group(2)));
+            int minute = m.group(4) != null ? 30 : (m.group(3) != null ? Integer.parseInt(m.group(3)) : 0);
+            if (hour >= 0 && hour <= 23 && minute <= 59) {
+                spans.add(m.group());
+                return LocalTime.of(hour, minute);
+            }
+        }
+
+        // 때 표현은 제목("점심 약속")에도 쓰이므로 spans에 넣지 않음
+        m = NAMED_TIME.matcher(text);
+        if (m.find()) {
+            return switch (m.group(1)) {
+                case "정오", "점심" -> LocalTime.NOON;
+                case "자정" -> LocalTime.MIDNIGHT;
+                case "아침" -> LocalTime.of(8, 0);
+                case "저녁" -> LocalTime.of(18, 0);
+                default -> LocalTime.of(21, 0); // 밤
+            };
+        }
+        return null;
+    }
+
+    // 밤 12시~5시, 자정: 말한 날의 밤이 지난 뒤(다음 날 새벽)
+    private boolean isAfterMidnight(String text, LocalTime time) {
+        if (time.getHour() >= 6) return false;
+        Matcher m = CLOCK_TIME.matcher(text);
+        if (m.find()) return "밤".equals(m.group(1));
+        m = NAMED_TIME.matcher(text);
+        return m.find() && "자정".equals(m.group(1));
+    }
+
+    // 오전/오후 등 때 표현과 시(時)를 24시간제로 변환
+    private int toHour(String meridiem, int hour) {
+        if (hour > 12) return hour; // 이미 24시간제 ("14시")
+        if (meridiem == null) {
+            if (hour == 12) return 12;
+            return (hour >= 1 && hour <= 6) ? hour + 12 : hour;
+        }
+        return switch (meridiem) {
+            case "오후", "저녁" -> hour == 12 ? 12 : hour + 12;
+            case "밤" -> hour == 12 ? 0 : (hour >= 6 ? hour + 12 : hour);
+            case "낮" -> hour <= 6 ? hour + 12 : hour;
+            default -> hour == 12 ? 0 : hour; // 오전, 아침, 새벽
+        };
+    }
+
+    private int toNumber(String word) {
+        Integer nativeNumber = NATIVE_NUMBERS.get(word);
+        return nativeNumber != null ? nativeNumber : Integer.parseInt(word);
+    }
+
+    private LocalDate safeDate(int year, int month, int day) {
+        try {
+            return LocalDate.of(year, month, day);
+        } catch (DateTimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 해석 결과
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class Result {
+        // 해석된 날짜 (없으면 null)
+        private final LocalDate date;
+        // 해석된 시간 (없으면 null)
+        private final LocalTime time;
+        // 날짜/시간으로 소비된 원문 조각 (제목 추출 시 제거용)
+        private final List<String> spans;
+    }
+}
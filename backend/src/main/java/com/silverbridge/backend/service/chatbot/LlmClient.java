@@ -4,6 +4,7 @@ import com.silverbridge.backend.dto.chatbot.MessageDto;
 import com.silverbridge.backend.dto.chatbot.ScheduleCommandDto; // DTO import 필수
 import com.fasterxml.jackson.databind.ObjectMapper; // JSON 파싱용
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.ai.chat.client.ChatClient;
 import org.springframework.ai.chat.model.ChatResponse;
 import org.springframework.ai.chat.prompt.Prompt;
@@ -11,10 +12,16 @@ import org.springframework.ai.chat.messages.Message;
 import org.springframework.ai.chat.messages.SystemMessage;
 import org.springframework.ai.chat.messages.UserMessage;
 import org.springframework.ai.chat.messages.AssistantMessage;
+import org.springframework.ai.model.function.FunctionCallback;
+import org.springframework.ai.model.function.FunctionCallbackWrapper;
 import org.springframework.ai.openai.OpenAiChatOptions;
 import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
 
+import java.time.Clock;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Component
@@ -23,6 +30,32 @@ public class LlmClient {
 
     private final ChatClient chatClient;
     private final ObjectMapper objectMapper; // JSON 변환을 위해 주입
+    private final Clock clock; // 상대 날짜 계산 기준 (AppConfig)
+    private final DependencyGuards dependencyGuards; // 동시 호출 제한 + 서킷 브레이커
+
+    // 대화 요약 등 보조 작업용 저비용 모델
+    @Value("${chatbot.summary.model:gpt-4o-mini}")
+    private String summaryModel;
+
+    // LLM 호출 실패 시 사용자에게 보여줄 안내 문구
+    public static final String ERROR_REPLY = "죄송합니다. 오류가 발생했습니다.";
+
+    private static final String SCHEDULE_TOOL_NAME = "manageSchedule";
+
+    private static final String SCHEDULE_TOOL_DESCRIPTION = """
+            Manage the user's calendar and alarm settings.
+            - ADD: add a schedule. Requires title and startDateTime ('YYYY-MM-DDTHH:mm:ss', default time 09:00:00).
+            - CHECK: check schedules on targetDate ('YYYY-MM-DD').
+            - DELETE: delete a schedule by title.
+            - ALARM: turn alarms on (alarmOn=true) or off (alarmOn=false).
+            """;
+
+    private static final String TOOL_INSTRUCTION = """
+            Current Time: %s
+            If the user asks to add, check or delete a schedule, or to turn alarms on/off,
+            call the manageSchedule function instead of answering, then answer briefly based on its result.
+            Calculate relative dates based on Current Time. Otherwise, answer the user directly.
+            """;
 
     // [기존 chat 메서드는 그대로 유지...]
     public String chat(List<MessageDto> messages, boolean seniorFriendly) {
@@ -31,7 +64,102 @@ public class LlmClient {
         // 여기에 기존 chat 로직이 있어야 합니다!
 
         // --- 복붙용 기존 chat 코드 ---
-        List<Message> springAiMessages = messages.stream()
+        List<Message> springAiMessages = toSpringAiMessages(messages);
+        return guard(DependencyGuards.LLM).call(() -> {
+            Prompt prompt = new Prompt(springAiMessages, chatOptions());
+            ChatResponse response = chatClient.prompt(prompt).call().chatResponse();
+            if (response != null && response.getResult() != null) {
+                return response.getResult().getOutput().getContent();
+            } else {
+                return "LLM 응답이 비어있습니다.";
+            }
+        }, () -> ERROR_REPLY);
+        // -------------------------
+    }
+
+    /**
+     * 스트리밍 대화: 생성되는 토큰(조각)을 순서대로 방출
+     * - 토큰이 나오기 전에 오류가 나거나 서킷이 차단되면 chat()과 동일한 안내 문구를 방출하고 종료
+     * - 토큰이 일부 나온 뒤의 오류는 onError로 전달 (부분 답변에 안내 문구를 이어 붙이지 않음)
+     */
+    public Flux<String> chatStream(List<MessageDto> messages, boolean seniorFriendly) {
+        Prompt prompt = new Prompt(toSpringAiMessages(messages), chatOptions());
+        return guard(DependencyGuards.LLM_STREAM).stream(() -> chatClient.prompt(prompt).stream().chatResponse()
+                .filter(response -> response.getResult() != null
+                        && response.getResult().getOutput() != null
+                        && response.getResult().getOutput().getContent() != null)
+                .map(response -> response.getResult().getOutput().getContent()),
+                () -> Flux.just(ERROR_REPLY));
+    }
+
+    /**
+     * 의도 판별과 답변 생성을 한 번의 요청으로 처리 (Function Calling)
+     * - 일반 대화면 모델이 바로 답변
+     * - 일정/알림 명령이면 모델이 manageSchedule 함수를 호출하고, commandExecutor의 실행 결과를 바탕으로 답변
+     * - 함수 인자는 ScheduleCommandDto 스키마로 전달되므로 JSON 문자열 파싱이 필요 없음
+     */
+    public String chatWithTools(List<MessageDto> messages, Function<ScheduleCommandDto, String> commandExecutor) {
+        List<Message> springAiMessages = new ArrayList<>(toSpringAiMessages(messages));
+        // 페르소나 시스템 프롬프트 바로 뒤에 함수 사용 지침 추가
+        String instruction = String.format(TOOL_INSTRUCTION, java.time.LocalDateTime.now(clock));
+        springAiMessages.add(Math.min(1, springAiMessages.size()), new SystemMessage(instruction));
+
+        FunctionCallback scheduleTool = FunctionCallbackWrapper.builder(commandExecutor)
+                .withName(SCHEDULE_TOOL_NAME)
+                .withDescription(SCHEDULE_TOOL_DESCRIPTION)
+                .withInputType(ScheduleCommandDto.class)
+                .withResponseConverter(result -> result)
+                .build();
+
+        OpenAiChatOptions options = OpenAiChatOptions.builder()
+                .withMaxTokens(2000)
+                .withTemperature(0.7F)
+                .withFunctionCallbacks(List.of(scheduleTool))
+                .build();
+
+        return guard(DependencyGuards.LLM).call(() -> {
+            ChatResponse response = chatClient.prompt(new Prompt(springAiMessages, options)).call().chatResponse();
+            if (response != null && response.getResult() != null) {
+                return response.getResult().getOutput().getContent();
+            } else {
+                return "LLM 응답이 비어있습니다.";
+            }
+        }, () -> ERROR_REPLY);
+    }
+
+    /**
+     * 대화 요약 (저비용 모델 사용)
+     * - 실패 시 안내 문구 대신 null을 반환하여 기존 요약을 유지하도록 함
+     */
+    public String summarize(List<MessageDto> messages) {
+        OpenAiChatOptions options = OpenAiChatOptions.builder()
+                .withModel(summaryModel)
+                .withMaxTokens(500)
+                .withTemperature(0.3F)
+                .build();
+        return guard(DependencyGuards.LLM_BACKGROUND).call(() -> {
+            ChatResponse response = chatClient.prompt(new Prompt(toSpringAiMessages(messages), options)).call().chatResponse();
+            if (response == null || response.getResult() == null) return null;
+            return response.getResult().getOutput().getContent();
+        }, () -> null);
+    }
+
+    /**
+     * 대화 제목 생성
+     * - 실패하거나 응답이 비어 있으면 안내 문구 대신 null을 반환하여 임시 제목을 유지하도록 함
+     */
+    public String generateTitle(List<MessageDto> messages) {
+        List<Message> springAiMessages = toSpringAiMessages(messages);
+        return guard(DependencyGuards.LLM_BACKGROUND).call(() -> {
+            ChatResponse response = chatClient.prompt(new Prompt(springAiMessages, chatOptions())).call().chatResponse();
+            if (response == null || response.getResult() == null) return null;
+            return response.getResult().getOutput().getContent();
+        }, () -> null);
+    }
+
+    // MessageDto 목록을 Spring AI 메시지로 변환
+    private List<Message> toSpringAiMessages(List<MessageDto> messages) {
+        return messages.stream()
                 .map(dto -> {
                     switch (dto.getRole().toLowerCase()) {
                         case "system": return new SystemMessage(dto.getContent());
@@ -41,23 +169,18 @@ public class LlmClient {
                     }
                 })
                 .collect(Collectors.toList());
-        try {
-            OpenAiChatOptions options = OpenAiChatOptions.builder()
-                    .withMaxTokens(2000)
-                    .withTemperature(0.7F)
-                    .build();
-            Prompt prompt = new Prompt(springAiMessages, options);
-            ChatResponse response = chatClient.prompt(prompt).call().chatResponse();
-            if (response != null && response.getResult() != null) {
-                return response.getResult().getOutput().getContent();
-            } else {
-                return "LLM 응답이 비어있습니다.";
-            }
-        } catch (Exception e) {
-            e.printStackTrace();
-            return "죄송합니다. 오류가 발생했습니다.";
-        }
-        // -------------------------
+    }
+
+    private DependencyGuard guard(String name) {
+        return dependencyGuards.get(name);
+    }
+
+    // 일반 대화용 옵션
+    private OpenAiChatOptions chatOptions() {
+        return OpenAiChatOptions.builder()
+                .withMaxTokens(2000)
+                .withTemperature(0.7F)
+                .build();
     }
 
     /**
@@ -96,20 +219,25 @@ public class LlmClient {
             3. "알림 좀 꺼줘" -> {"action": "ALARM", "alarmOn": false}
             """;
 
-        String now = java.time.LocalDateTime.now().toString();
+        String now = java.time.LocalDateTime.now(clock).toString();
         String finalSystemPrompt = String.format(systemPrompt, now);
 
-        try {
-            OpenAiChatOptions options = OpenAiChatOptions.builder()
-                    .withTemperature(0.0F) // 정확도 중요
-                    .build();
+        OpenAiChatOptions options = OpenAiChatOptions.builder()
+                .withTemperature(0.0F) // 정확도 중요
+                .build();
 
-            Prompt prompt = new Prompt(List.of(
-                    new SystemMessage(finalSystemPrompt),
-                    new UserMessage(userText)
-            ), options);
+        Prompt prompt = new Prompt(List.of(
+                new SystemMessage(finalSystemPrompt),
+                new UserMessage(userText)
+        ), options);
 
-            ChatResponse response = chatClient.prompt(prompt).call().chatResponse();
+        // LLM 호출 실패/차단 시 아무것도 안 함(NONE)으로 처리
+        ChatResponse response = guard(DependencyGuards.LLM).call(() -> chatClient.prompt(prompt).call().chatResponse(), () -> null);
+        if (response == null || response.getResult() == null) {
+            return ScheduleCommandDto.builder().action(ScheduleCommandDto.Action.NONE).build();
+        }
+
+        try {
             String jsonOutput = response.getResult().getOutput().getContent()
                     .replace("```json", "").replace("```", "").trim();
 
@@ -3,6 +3,11 @@ package com.silverbridge.backend.service.chatbot;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.silverbridge.backend.dto.chatbot.SearchResDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.AllArgsConstructor;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.RequestEntity;
@@ -12,15 +17,29 @@ import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
 
 import java.net.URI;
+import java.text.Normalizer;
 import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
-
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 네이버 웹 검색 클라이언트
+ * - 정규화된 검색어 기준 결과 캐시 (TTL), 호출 실패는 짧은 TTL로 캐시하여 장애 시 재시도 폭주 방지
+ * - 같은 검색어가 동시에 들어오면 한 번만 호출하고 나머지는 그 결과를 함께 사용 (single-flight)
+ * - 메트릭: naver.search.cache.requests{result=hit|negative_hit|coalesced|miss}, naver.search.cache.size
+ */
 @Component
 @RequiredArgsConstructor
 public class NaverSearchClient {
 
-    private final RestTemplate restTemplate;
+    private final RestTemplate naverRestTemplate;
+    // 동시 호출 제한 + 서킷 브레이커 (실패/차단 시 검색 결과 없이 답변)
+    private final DependencyGuards dependencyGuards;
     private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
 
     @Value("${naver.client.id}")
     private String clientId;
@@ -28,10 +47,81 @@ public class NaverSearchClient {
     @Value("${naver.client.secret}")
     private String clientSecret;
 
+    @Value("${naver.search.cache.ttl-seconds:21600}")
+    private long ttlSeconds;
+
+    @Value("${naver.search.cache.negative-ttl-seconds:60}")
+    private long negativeTtlSeconds;
+
+    @Value("${naver.search.cache.max-entries:1000}")
+    private int maxEntries;
+
+    // 접근 순서 기반 LinkedHashMap (가장 오래 사용하지 않은 검색어가 맨 앞)
+    private final LinkedHashMap<String, CacheEntry> cache = new LinkedHashMap<>(64, 0.75f, true);
+    // 진행 중인 호출 (검색어 → 결과)
+    private final ConcurrentHashMap<String, CompletableFuture<List<SearchResDto>>> inFlight = new ConcurrentHashMap<>();
+
+    private Counter hits;
+    private Counter negativeHits;
+    private Counter coalesced;
+    private Counter misses;
+
+    @PostConstruct
+    public void init() {
+        hits = Counter.builder("naver.search.cache.requests").tag("result", "hit").register(meterRegistry);
+        negativeHits = Counter.builder("naver.search.cache.requests").tag("result", "negative_hit").register(meterRegistry);
+        coalesced = Counter.builder("naver.search.cache.requests").tag("result", "coalesced").register(meterRegistry);
+        misses = Counter.builder("naver.search.cache.requests").tag("result", "miss").register(meterRegistry);
+        Gauge.builder("naver.search.cache.size", this, c -> c.cacheSize()).register(meterRegistry);
+    }
+
     public List<SearchResDto> search(String query) {
         if (query == null || query.isBlank()) return new ArrayList<>();
 
+        String key = normalize(query);
+        if (key.isEmpty()) return new ArrayList<>();
+
+        // 1. 캐시 확인
+        CacheEntry cached = getFresh(key);
+        if (cached != null) {
+            (cached.results == null ? negativeHits : hits).increment();
+            return copyOf(cached.results);
+        }
+
+        // 2. 같은 검색어 호출이 진행 중이면 그 결과를 기다림
+        CompletableFuture<List<SearchResDto>> mine = new CompletableFuture<>();
+        CompletableFuture<List<SearchResDto>> running = inFlight.putIfAbsent(key, mine);
+        if (running != null) {
+            coalesced.increment();
+            return copyOf(running.join());
+        }
+
+        // 3. 직접 호출 (대기 중인 요청들에도 결과 전달)
         try {
+            cached = getFresh(key); // 그사이 다른 요청이 채웠을 수 있음
+            List<SearchResDto> results = cached != null ? cached.results : fetchAndCache(key, query);
+            mine.complete(results);
+            return copyOf(results);
+        } catch (RuntimeException e) {
+            mine.complete(null);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    // 호출 후 캐시에 저장 (실패는 null로 짧게 캐시)
+    private List<SearchResDto> fetchAndCache(String key, String query) {
+        misses.increment();
+        List<SearchResDto> results = fetch(query);
+        long ttlMillis = (results == null ? negativeTtlSeconds : ttlSeconds) * 1000;
+        put(key, new CacheEntry(results, System.currentTimeMillis() + ttlMillis));
+        return results;
+    }
+
+    // 네이버 API 호출 (실패/차단 시 null)
+    private List<SearchResDto> fetch(String query) {
+        return dependencyGuards.get(DependencyGuards.NAVER).call(() -> {
             // 정확도를 위해 검색어 뒤에 핵심 키워드 추가
             String keyword = query + " 노인 복지 혜택";
 
@@ -54,22 +144,60 @@ public class NaverSearchClient {
                     .header("X-Naver-Client-Secret", clientSecret)
                     .build();
 
-            ResponseEntity<String> response = restTemplate.exchange(req, String.class);
+            ResponseEntity<String> response = naverRestTemplate.exchange(req, String.class);
 
             // [핵심] 네이버가 준 응답을 콘솔에 그대로 찍어봅니다.
             System.out.println("✅ [NaverAPI] 응답 수신 완료 (Status: " + response.getStatusCode() + ")");
             System.out.println("📄 [NaverAPI] 응답 본문: " + response.getBody());
 
             return parseResult(response.getBody());
+        }, () -> null);
+    }
 
-        } catch (Exception e) {
-            // 에러가 나면 여기서 잡힘
-            System.err.println("🚨 [NaverAPI] 호출 실패! 원인: " + e.getMessage());
-            e.printStackTrace(); // 자세한 에러 로그 출력
-            return new ArrayList<>();
+    private CacheEntry getFresh(String key) {
+        synchronized (cache) {
+            CacheEntry entry = cache.get(key);
+            if (entry == null) return null;
+            if (entry.expiresAt < System.currentTimeMillis()) {
+                cache.remove(key);
+                return null;
+            }
+            return entry;
         }
     }
 
+    // 저장 후 최대 개수를 넘으면 오래 사용하지 않은 검색어부터 제거
+    private void put(String key, CacheEntry entry) {
+        synchronized (cache) {
+            cache.put(key, entry);
+            Iterator<String> it = cache.keySet().iterator();
+            while (cache.size() > maxEntries && it.hasNext()) {
+                it.next();
+                it.remove();
+            }
+        }
+    }
+
+    private int cacheSize() {
+        synchronized (cache) {
+            return cache.size();
+        }
+    }
+
+    // 호출 측에서 목록을 수정해도 캐시가 바뀌지 않도록 복사 (실패 결과는 빈 목록)
+    private List<SearchResDto> copyOf(List<SearchResDto> results) {
+        return results == null ? new ArrayList<>() : new ArrayList<>(results);
+    }
+
+    // 캐시 키: 유니코드/대소문자/문장부호/공백 차이를 무시 ("복지관 어디야?" == "복지관  어디야")
+    private String normalize(String query) {
+        return Normalizer.normalize(query, Normalizer.Form.NFC)
+                .toLowerCase()
+                .replaceAll("[\\p{Punct}\\p{IsPunctuation}]", " ")
+                .trim()
+                .replaceAll("\\s+", " ");
+    }
+
     private List<SearchResDto> parseResult(String jsonBody) {
         List<SearchResDto> list = new ArrayList<>();
         try {
@@ -95,4 +223,13 @@ public class NaverSearchClient {
         if (text == null) return "";
         return text.replaceAll("<[^>]*>", "").replaceAll("&quot;", "\"");
     }
-}
\ No newline at end of file
+
+    /**
+     * 캐시 항목 (results가 null이면 실패 결과)
+     */
+    @AllArgsConstructor
+    private static class CacheEntry {
+        private final List<SearchResDto> results;
+        private final long expiresAt;
+    }
+}
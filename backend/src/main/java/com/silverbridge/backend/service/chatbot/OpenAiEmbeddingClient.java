@@ -0,0 +1,45 @@
+package com.silverbridge.backend.service.chatbot;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.ai.embedding.EmbeddingModel;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * OpenAI 임베딩 API 클라이언트 (Spring AI EmbeddingModel 사용)
+ * - 모델은 spring.ai.openai.embedding.options.model 설정을 따름
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "chatbot.embedding.provider", havingValue = "openai")
+public class OpenAiEmbeddingClient implements EmbeddingClient {
+
+    private final EmbeddingModel embeddingModel;
+
+    @Value("${spring.ai.openai.embedding.options.model:text-embedding-ada-002}")
+    private String model;
+
+    private volatile int dimensions = -1;
+
+    @Override
+    public float[] embed(String text) {
+        List<Double> embedding = embeddingModel.embed(text);
+        float[] vector = new float[embedding.size()];
+        for (int i = 0; i < vector.length; i++) vector[i] = embedding.get(i).floatValue();
+        return HashingEmbeddingClient.normalize(vector);
+    }
+
+    @Override
+    public int dimensions() {
+        if (dimensions < 0) dimensions = embeddingModel.dimensions();
+        return dimensions;
+    }
+
+    @Override
+    public String modelId() {
+        return "openai-" + model;
+    }
+}
@@ -1,22 +1,97 @@
 package com.silverbridge.backend.service.chatbot;
 
+import com.silverbridge.backend.domain.chatbot.Emotion;
 import com.silverbridge.backend.dto.chatbot.MessageDto;
 import com.silverbridge.backend.dto.chatbot.SearchResDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import java.util.ArrayList;
+import java.util.LinkedList;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Component
+@RequiredArgsConstructor
 public class PromptBuilder {
 
+    private final TokenCounter tokenCounter;
+    private final MeterRegistry meterRegistry;
+
+    // 프롬프트(입력) 토큰 예산
+    @Value("${chatbot.prompt.token-budget:3000}")
+    private int tokenBudget;
+
+    private DistributionSummary systemTokenSummary;
+    private DistributionSummary searchTokenSummary;
+    private DistributionSummary historyTokenSummary;
+    private DistributionSummary userTokenSummary;
+    private DistributionSummary totalTokenSummary;
+    private Counter droppedHistory;
+
+    // 검색 결과(RAG) 블록 - 정보는 정확하게, 말투는 위 페르소나 유지
+    private static final String REFERENCE_HEADER = """
+
+            ### [Reference Information] ###
+            You MUST answer based on the search results below.
+            1. Extract specific program names, locations, or benefits.
+            2. Do NOT generalize. Mention specific names found in the results.
+            3. Explain 2-3 key items clearly.
+            4. IMPORTANT: Convert the explanation into the defined dialect/tone above, but keep the proper nouns (names) accurate.
+            """;
+    private static final String REFERENCE_FOOTER = "### End of Reference ###\n";
+
+    // 고정 prefix를 미리 만들어 둘 지역 코드 (감정은 Emotion 전체)
+    private static final List<String> REGIONS = List.of("std", "gs", "gw");
+
+    // 고정 prefix 캐시 (지역|감정|검색 여부 → 텍스트 + 토큰 수)
+    private final Map<String, SystemPrefix> prefixCache = new ConcurrentHashMap<>();
+    // 검색 결과 블록의 머리말/꼬리말 토큰 수
+    private int referenceFrameTokens;
+
     private static final String[] SEARCH_KEYWORDS = {
             "복지", "혜택", "지원금", "정책", "센터",
             "추천", "어디", "찾아줘", "알려줘", "병원", "약국",
             "뉴스", "정보", "어떻게"
     };
 
+    @PostConstruct
+    public void init() {
+        systemTokenSummary = tokenSummary("system");
+        searchTokenSummary = tokenSummary("search");
+        historyTokenSummary = tokenSummary("history");
+        userTokenSummary = tokenSummary("user");
+        totalTokenSummary = tokenSummary("total");
+        droppedHistory = Counter.builder("chatbot.prompt.history.dropped")
+                .description("토큰 예산 초과로 제외된 히스토리 메시지 수")
+                .register(meterRegistry);
+
+        // 모든 지역/감정/검색 여부 조합의 고정 prefix를 미리 생성
+        for (String region : REGIONS) {
+            for (Emotion emotion : Emotion.values()) {
+                systemPrefix(region, emotion, true, false);
+                systemPrefix(region, emotion, true, true);
+            }
+        }
+        systemPrefix(null, null, false, false);
+        referenceFrameTokens = tokenCounter.count(REFERENCE_HEADER) + tokenCounter.count(REFERENCE_FOOTER);
+    }
+
+    private DistributionSummary tokenSummary(String part) {
+        return DistributionSummary.builder("chatbot.prompt.tokens")
+                .tag("part", part)
+                .baseUnit("tokens")
+                .register(meterRegistry);
+    }
+
     public boolean isSearchNeeded(String userMsg) {
         if (userMsg == null || userMsg.isBlank()) return false;
         for (String keyword : SEARCH_KEYWORDS) {
@@ -25,70 +100,135 @@ public class PromptBuilder {
         return false;
     }
 
-    public List<MessageDto> build(List<MessageDto> history, String userMsg, String emotionCode, String regionCode, boolean seniorFriendly, List<SearchResDto> searchResults) {
-        List<MessageDto> msgs = new ArrayList<>();
-        StringBuilder systemPrompt = new StringBuilder();
+    /**
+     * 토큰 예산(chatbot.prompt.token-budget) 안에서 프롬프트 구성
+     * - 우선순위: 시스템 페르소나 + 현재 사용자 메시지(항상 포함) → 검색 결과 → 최신 히스토리부터 역순
+     * - 예산을 넘는 검색 결과/오래된 히스토리는 제외
+     * - summary가 있으면 오래된 대화 요약으로 시스템 프롬프트에 포함 (history는 최근 대화만 전달)
+     * - 시스템 프롬프트는 [고정 prefix(캐시)] + [검색 결과] + [대화 요약] 순서로, prefix가 요청 간 바이트 단위로 동일함
+     */
+    public List<MessageDto> build(List<MessageDto> history, String summary, String userMsg, Emotion emotion, String regionCode, boolean seniorFriendly, List<SearchResDto> searchResults) {
+        MessageDto userMessage = new MessageDto("user", userMsg);
+        int userTokens = tokenCounter.count(userMessage);
 
-        boolean hasSearchInfo = (searchResults != null && !searchResults.isEmpty());
-
-        if (seniorFriendly) {
-            // 1. 기본 역할 정의
-            systemPrompt.append("You are 'SilverBridge', a professional AI companion for seniors. ");
-
-            // 2. 지역별 페르소나 (말투/성격) 설정 - 가장 우선순위 높음
-            systemPrompt.append(getDialectInstruction(regionCode)).append("\n");
-
-            // 3. 검색 결과(RAG) 주입
-            if (hasSearchInfo) {
-                systemPrompt.append("\n### [Reference Information] ###\n");
-                systemPrompt.append("You MUST answer based on the search results below.\n");
-                systemPrompt.append("1. Extract specific program names, locations, or benefits.\n");
-                systemPrompt.append("2. Do NOT generalize. Mention specific names found in the results.\n");
-                systemPrompt.append("3. Explain 2-3 key items clearly.\n");
-                // [중요] 정보는 정확하게, 말투는 페르소나 유지
-                systemPrompt.append("4. IMPORTANT: Convert the explanation into the defined dialect/tone above, but keep the proper nouns (names) accurate.\n");
-
-                for (int i = 0; i < searchResults.size(); i++) {
-                    SearchResDto item = searchResults.get(i);
-                    systemPrompt.append(String.format("- %s : %s\n", item.getTitle(), item.getDescription()));
-                }
-                systemPrompt.append("### End of Reference ###\n");
-            }
+        // 1. 페르소나/지침만 담은 시스템 프롬프트 (필수)
+        String summaryBlock = summaryBlock(summary);
+        int summaryTokens = tokenCounter.count(summaryBlock);
+        SystemPrefix prefix = systemPrefix(regionCode, emotion, seniorFriendly, false);
+        int baseSystemTokens = prefix.getTokens() + summaryTokens;
+        int remaining = tokenBudget - baseSystemTokens - userTokens;
 
-            // 4. 대화 가이드라인
-            systemPrompt.append("\n[Response Guidelines]\n");
-            systemPrompt.append("- Always respond in Korean.\n");
+        String systemText = prefix.getText() + summaryBlock;
+        int systemTokens = baseSystemTokens;
 
-            // 공감/반응 지시
-            systemPrompt.append("- Add a brief empathetic phrase (e.g., '그럴 수 있어요', '좋은 생각이에요') if appropriate.\n");
+        // 2. 검색 결과: 예산 안에 들어가는 항목만 순서대로 추가
+        if (seniorFriendly && searchResults != null && !searchResults.isEmpty()) {
+            SystemPrefix searchPrefix = systemPrefix(regionCode, emotion, true, true);
+            int referenceTokens = searchPrefix.getTokens() + summaryTokens + referenceFrameTokens;
+            StringBuilder references = new StringBuilder();
+            for (SearchResDto item : searchResults) {
+                String line = String.format("- %s : %s\n", item.getTitle(), item.getDescription());
+                int lineTokens = tokenCounter.count(line);
+                if (referenceTokens + lineTokens - baseSystemTokens > remaining) break;
+                references.append(line);
+                referenceTokens += lineTokens;
+            }
+            if (references.length() > 0) {
+                systemText = searchPrefix.getText() + REFERENCE_HEADER + references + REFERENCE_FOOTER + summaryBlock;
+                systemTokens = referenceTokens;
+            }
+        }
+        remaining = tokenBudget - systemTokens - userTokens;
 
-            // 길이 조정
-            if (hasSearchInfo) {
-                systemPrompt.append("- Since you are explaining information, you can write up to 400 characters.\n");
-                systemPrompt.append("- Make sure the user clearly understands the specific benefits.\n");
-            } else {
-                systemPrompt.append("- Keep it short for casual talk (around 100~150 characters).\n");
-                systemPrompt.append("- Avoid long lectures.\n");
+        // 3. 히스토리: 최신 메시지부터 예산이 허용하는 만큼 (대화 흐름이 끊기지 않도록 중간을 건너뛰지 않음)
+        LinkedList<MessageDto> selected = new LinkedList<>();
+        int historyTokens = 0;
+        if (history != null) {
+            for (int i = history.size() - 1; i >= 0; i--) {
+                MessageDto m = new MessageDto(history.get(i).getRole(), history.get(i).getContent());
+                int tokens = tokenCounter.count(m);
+                if (historyTokens + tokens > remaining) break;
+                selected.addFirst(m);
+                historyTokens += tokens;
+            }
+            if (selected.size() < history.size()) {
+                droppedHistory.increment(history.size() - selected.size());
             }
+        }
+
+        List<MessageDto> msgs = new ArrayList<>();
+        msgs.add(new MessageDto("system", systemText));
+        msgs.addAll(selected);
+        msgs.add(userMessage);
+
+        recordTokens(baseSystemTokens, systemTokens - baseSystemTokens, historyTokens, userTokens, tokenCounter.countPrompt(msgs));
+        return msgs;
+    }
+
+    // 고정 prefix 조회 (시작 시 미리 만든 것을 재사용, 처음 보는 조합만 새로 생성)
+    private SystemPrefix systemPrefix(String regionCode, Emotion userEmotion, boolean seniorFriendly, boolean hasSearchInfo) {
+        String region = normalizeRegion(regionCode);
+        Emotion emotion = userEmotion != null ? userEmotion : Emotion.NEUTRAL;
+        String key = seniorFriendly ? region + "|" + emotion.name() + "|" + hasSearchInfo : "plain";
+        return prefixCache.computeIfAbsent(key, k -> {
+            String text = buildSystemPrefix(region, emotion, seniorFriendly, hasSearchInfo);
+            return new SystemPrefix(text, tokenCounter.count(new MessageDto("system", text)));
+        });
+    }
+
+    // 시스템 프롬프트의 고정 부분 (페르소나 + 응답 지침 + 감정 지침) - 지역/감정/검색 여부에만 의존
+    private String buildSystemPrefix(String regionCode, Emotion emotion, boolean seniorFriendly, boolean hasSearchInfo) {
+        if (!seniorFriendly) return "You are a helpful assistant.\n";
+
+        StringBuilder systemPrompt = new StringBuilder();
 
-            // 5. 감정 지침
-            systemPrompt.append("\n[User Emotion: ").append(getEmotionInstruction(emotionCode)).append("]\n");
+        // 1. 기본 역할 정의
+        systemPrompt.append("You are 'SilverBridge', a professional AI companion for seniors. ");
 
+        // 2. 지역별 페르소나 (말투/성격) 설정 - 가장 우선순위 높음
+        systemPrompt.append(getDialectInstruction(regionCode)).append("\n");
+
+        // 3. 대화 가이드라인
+        systemPrompt.append("\n[Response Guidelines]\n");
+        systemPrompt.append("- Always respond in Korean.\n");
+
+        // 공감/반응 지시
+        systemPrompt.append("- Add a brief empathetic phrase (e.g., '그럴 수 있어요', '좋은 생각이에요') if appropriate.\n");
+
+        // 길이 조정
+        if (hasSearchInfo) {
+            systemPrompt.append("- Since you are explaining information, you can write up to 400 characters.\n");
+            systemPrompt.append("- Make sure the user clearly understands the specific benefits.\n");
         } else {
-            systemPrompt.append("You are a helpful assistant.");
+            systemPrompt.append("- Keep it short for casual talk (around 100~150 characters).\n");
+            systemPrompt.append("- Avoid long lectures.\n");
         }
 
-        msgs.add(new MessageDto("system", systemPrompt.toString()));
+        // 4. 감정 지침
+        systemPrompt.append("\n[User Emotion: ").append(getEmotionInstruction(emotion)).append("]\n");
 
-        if (history != null && !history.isEmpty()) {
-            msgs.addAll(history.stream()
-                    .map(m -> new MessageDto(m.getRole(), m.getContent()))
-                    .collect(Collectors.toList()));
-        }
+        return systemPrompt.toString();
+    }
 
-        msgs.add(new MessageDto("user", userMsg));
+    // 이전 대화 요약 블록 (요약이 없으면 빈 문자열)
+    private String summaryBlock(String summary) {
+        if (summary == null || summary.isBlank()) return "";
+        return "\n[Summary of Earlier Conversation]\n" + summary.strip() + "\n";
+    }
 
-        return msgs;
+    private String normalizeRegion(String regionCode) {
+        if (regionCode == null) return "std";
+        String region = regionCode.toLowerCase();
+        return REGIONS.contains(region) ? region : "std";
+    }
+
+    // 프롬프트 구성 요소별 토큰 수 기록
+    private void recordTokens(int systemTokens, int searchTokens, int historyTokens, int userTokens, int totalTokens) {
+        systemTokenSummary.record(systemTokens);
+        searchTokenSummary.record(searchTokens);
+        historyTokenSummary.record(historyTokens);
+        userTokenSummary.record(userTokens);
+        totalTokenSummary.record(totalTokens);
     }
 
     // ... (buildTitlePrompt, getDialectInstruction, getEmotionInstruction 메서드는 기존과 동일하게 유지) ...
@@ -99,6 +239,29 @@ public class PromptBuilder {
         return msgs;
     }
 
+    /**
+     * 대화 요약 프롬프트: 기존 요약 + 새로 요약할 대화 → 갱신된 요약
+     */
+    public List<MessageDto> buildSummaryPrompt(String previousSummary, List<MessageDto> messages) {
+        StringBuilder conversation = new StringBuilder();
+        if (previousSummary != null && !previousSummary.isBlank()) {
+            conversation.append("[Previous Summary]\n").append(previousSummary.strip()).append("\n\n");
+        }
+        conversation.append("[New Messages]\n");
+        for (MessageDto m : messages) {
+            conversation.append("assistant".equals(m.getRole()) ? "AI: " : "User: ").append(m.getContent()).append("\n");
+        }
+
+        List<MessageDto> msgs = new ArrayList<>();
+        msgs.add(new MessageDto("system",
+                "Update the summary of a conversation between a senior user and an AI companion. " +
+                "Merge the previous summary with the new messages into one Korean summary under 600 characters. " +
+                "Keep facts about the user (health, family, schedules, preferences, feelings) and unresolved requests. " +
+                "Output only the summary."));
+        msgs.add(new MessageDto("user", conversation.toString()));
+        return msgs;
+    }
+
     private String getDialectInstruction(String regionCode) {
         if (regionCode == null) regionCode = "std";
         // 이전에 드린 '개선된 사투리 프롬프트'를 그대로 쓰시면 됩니다.
@@ -118,15 +281,25 @@ public class PromptBuilder {
         };
     }
 
-    private String getEmotionInstruction(String code) {
-        if (code == null) code = "6";
-        return switch (code) {
-            case "0" -> "User is Happy. React cheerfully.";
-            case "1" -> "User is Sad. Console warmly.";
-            case "2" -> "User is Angry. Calm them down.";
-            case "3" -> "User is Anxious. Give reassurance.";
-            case "6" -> "User is Neutral. Be informative and friendly.";
-            default -> "Respond kindly.";
+    private String getEmotionInstruction(Emotion emotion) {
+        return switch (emotion) {
+            case JOY -> "User is Happy. React cheerfully.";
+            case SADNESS -> "User is Sad. Console warmly.";
+            case ANGER -> "User is Angry. Calm them down.";
+            case ANXIETY -> "User is Anxious. Give reassurance.";
+            case EMBARRASSMENT -> "User is Flustered. Explain calmly, one step at a time.";
+            case HURT -> "User feels Hurt. Acknowledge their feelings gently.";
+            case NEUTRAL -> "User is Neutral. Be informative and friendly.";
         };
     }
-}
\ No newline at end of file
+
+    /**
+     * 시스템 프롬프트 고정 prefix (텍스트 + 메시지 토큰 수)
+     */
+    @Getter
+    @AllArgsConstructor
+    private static class SystemPrefix {
+        private final String text;
+        private final int tokens;
+    }
+}
@@ -0,0 +1,336 @@
+package com.silverbridge.backend.service.chatbot;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.silverbridge.backend.dto.chatbot.SearchResDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 벡터 검색 기반 참고 자료 검색기 (복지 프로그램)
+ * - 질문을 임베딩하여 HNSW 인덱스에서 유사한 문서를 찾고, 유사도가 기준 이상이면 검색이 필요한 질문으로 판단
+ * - 키워드가 없는 다른 표현의 질문도 찾을 수 있음 ("연금 받으려면?" → 기초연금)
+ * - 복지 프로그램은 시작 시, 그리고 WelfareIndex가 재색인될 때마다 WelfareIndex 데이터와 맞춤
+ *   (문서별 내용 해시를 비교해 추가/수정/삭제가 있으면 새 인덱스를 만든 뒤 한 번에 교체, 바뀌지 않은 문서는 임베딩 재사용)
+ * - 생성된 답변은 색인하지 않음 (사용자 맥락이 섞이고 잘못된 답변이 참고 자료로 굳어질 수 있으며, HNSW는 삭제를 지원하지 않음)
+ * - 인덱스는 주기적으로 메모리 매핑 파일에 스냅샷으로 저장되고, 재시작 시 그대로 복원 (임베딩 재계산 없음)
+ * - 메트릭: chatbot.retrieval.requests{result=hit|miss}, chatbot.retrieval.similarity, chatbot.retrieval.latency
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SemanticRetriever {
+
+    private static final String KIND_PROGRAM = "program";
+    // 이전 버전에서 색인하던 생성 답변 (스냅샷에 남아 있으면 스냅샷을 버리고 새로 색인)
+    private static final String KIND_ANSWER = "answer";
+    private static final int HNSW_M = 16;
+    private static final int HNSW_EF_CONSTRUCTION = 100;
+
+    private final EmbeddingClient embeddingClient;
+    private final WelfareIndex welfareIndex;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${chatbot.retrieval.enabled:true}")
+    private boolean enabled;
+
+    @Value("${chatbot.retrieval.top-k:3}")
+    private int topK;
+
+    @Value("${chatbot.retrieval.ef-search:64}")
+    private int efSearch;
+
+    // 이 유사도 이상인 문서가 있으면 검색이 필요한 질문으로 판단 (임베딩 모델에 따라 조정)
+    @Value("${chatbot.retrieval.min-similarity:0.3}")
+    private double minSimilarity;
+
+    @Value("${chatbot.retrieval.snapshot-path:${java.io.tmpdir}/silverbridge-vectors.bin}")
+    private String snapshotPath;
+
+    // 검색 중인 요청이 인덱스와 문서 목록을 항상 같은 세대로 보도록 한 번에 교체
+    private volatile Catalog catalog;
+    private volatile boolean dirty = false;
+
+    private Counter hits;
+    private Counter misses;
+    private DistributionSummary similaritySummary;
+    private Timer latency;
+
+    @PostConstruct
+    public void init() {
+        hits = Counter.builder("chatbot.retrieval.requests").tag("result", "hit").register(meterRegistry);
+        misses = Counter.builder("chatbot.retrieval.requests").tag("result", "miss").register(meterRegistry);
+        similaritySummary = DistributionSummary.builder("chatbot.retrieval.similarity").register(meterRegistry);
+        latency = Timer.builder("chatbot.retrieval.latency").register(meterRegistry);
+
+        if (!enabled) return;
+        catalog = new Catalog(new HnswIndex(embeddingClient.dimensions(), HNSW_M, HNSW_EF_CONSTRUCTION), List.of());
+        loadSnapshot();
+        sync();
+    }
+
+    // 복지 데이터가 다시 읽히면 (data-dir 변경) 벡터 인덱스도 맞춤
+    @EventListener
+    public void onWelfareIndexRebuilt(WelfareIndex.RebuiltEvent event) {
+        if (enabled && catalog != null) sync();
+    }
+
+    /**
+     * 질문과 유사한 참고 자료 검색
+     *
+     * @return 유사도가 기준 이상인 상위 top-k개 (없으면 빈 목록 = 검색이 필요 없는 질문)
+     */
+    public List<SearchResDto> retrieve(String regionCode, String query) {
+        if (!enabled || query == null || query.isBlank()) return new ArrayList<>();
+
+        return latency.record(() -> {
+            String region = regionCode == null ? "std" : regionCode.toLowerCase();
+            Catalog current = catalog;
+            // 다른 지역 문서가 걸러질 수 있으므로 넉넉히 검색
+            List<HnswIndex.Candidate> candidates = current.index.search(embeddingClient.embed(query), topK * 3, efSearch);
+
+            List<SearchResDto> results = new ArrayList<>();
+            for (HnswIndex.Candidate c : candidates) {
+                if (results.size() >= topK || c.similarity < minSimilarity) break;
+                IndexedDocument doc = current.documents.get(c.node);
+                if (!"all".equals(doc.getRegion()) && !region.equals(doc.getRegion())) continue;
+                results.add(new SearchResDto(doc.getTitle(), doc.getText(), doc.getLink()));
+            }
+
+            if (!candidates.isEmpty()) similaritySummary.record(candidates.get(0).similarity);
+            (results.isEmpty() ? misses : hits).increment();
+            return results;
+        });
+    }
+
+    /**
+     * 벡터 인덱스를 현재 복지 프로그램 목록에 맞춤
+     * - 문서 id와 내용 해시가 모두 같으면 그대로 유지
+     * - 하나라도 다르면 새 인덱스를 만든 뒤 교체 (HNSW는 삭제/수정을 지원하지 않음)
+     */
+    synchronized void sync() {
+        Catalog current = catalog;
+        List<IndexedDocument> wanted = new ArrayList<>();
+        for (WelfareIndex.WelfareProgram p : welfareIndex.programs()) {
+            wanted.add(new IndexedDocument(KIND_PROGRAM + ":" + p.getId(), KIND_PROGRAM, p.getRegion(),
+                    p.getTitle(), p.getDescription(), p.getLink(), contentHash(p)));
+        }
+        if (sameContent(current.documents, wanted)) {
+            log.info("벡터 인덱스 준비 완료: documents={}, changed=0", current.documents.size());
+            return;
+        }
+
+        // 1. 기존 인덱스에서 바뀌지 않은 문서의 벡터 찾기 (임베딩 재계산 방지)
+        Map<String, Integer> reusable = new HashMap<>();
+        for (int node = 0; node < current.documents.size(); node++) {
+            IndexedDocument doc = current.documents.get(node);
+            if (doc.getHash() != null) reusable.put(doc.getId() + "#" + doc.getHash(), node);
+        }
+
+        // 2. 새 인덱스 구축 (검색은 그동안 기존 인덱스 사용, 임베딩 실패 시 기존 인덱스 유지)
+        HnswIndex rebuilt = new HnswIndex(embeddingClient.dimensions(), HNSW_M, HNSW_EF_CONSTRUCTION);
+        List<IndexedDocument> documents = new ArrayList<>();
+        Set<String> ids = new HashSet<>();
+        int embedded = 0;
+        try {
+            for (IndexedDocument doc : wanted) {
+                if (!ids.add(doc.getId())) continue;
+                Integer node = reusable.get(doc.getId() + "#" + doc.getHash());
+                float[] vector;
+                if (node != null) {
+                    vector = current.index.vector(node);
+                } else {
+                    vector = embeddingClient.embed(doc.getTitle() + " " + doc.getText());
+                    embedded++;
+                }
+                // 노드 번호 = 목록 인덱스
+                documents.add(rebuilt.add(vector), doc);
+            }
+        } catch (RuntimeException e) {
+            log.warn("벡터 인덱스 재구축 실패, 기존 인덱스 유지: {}", e.getMessage());
+            return;
+        }
+
+        // 3. 교체
+        catalog = new Catalog(rebuilt, documents);
+        dirty = true;
+        log.info("벡터 인덱스 재구축: documents={}, embedded={}, previous={}",
+                documents.size(), embedded, current.documents.size());
+    }
+
+    // 문서 id/내용 해시 집합이 같은지 (순서는 무관)
+    private boolean sameContent(List<IndexedDocument> indexed, List<IndexedDocument> wanted) {
+        Set<String> a = new HashSet<>();
+        for (IndexedDocument doc : indexed) {
+            if (doc.getHash() == null) return false;
+            a.add(doc.getId() + "#" + doc.getHash());
+        }
+        Set<String> b = new HashSet<>();
+        for (IndexedDocument doc : wanted) b.add(doc.getId() + "#" + doc.getHash());
+        return a.size() == indexed.size() && a.equals(b);
+    }
+
+    // 검색 결과에 쓰이는 필드 전체의 해시 (하나라도 바뀌면 다시 임베딩)
+    private static String contentHash(WelfareIndex.WelfareProgram p) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (String field : new String[]{p.getRegion(), p.getTitle(), p.getDescription(), p.getLink()}) {
+                digest.update(String.valueOf(field).getBytes(StandardCharsets.UTF_8));
+                digest.update((byte) 0);
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // --- 스냅샷 ---
+    // 형식: [헤더 길이][헤더 JSON(모델 ID)][HNSW 그래프][문서 JSON 길이][문서 JSON 배열]
+
+    @Scheduled(fixedDelayString = "${chatbot.retrieval.snapshot-interval-ms:300000}")
+    public void saveIfDirty() {
+        if (enabled && dirty) saveSnapshot();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        saveIfDirty();
+    }
+
+    private synchronized void saveSnapshot() {
+        Path file = Paths.get(snapshotPath);
+        try {
+            dirty = false;
+            Catalog current = catalog;
+            byte[] header = objectMapper.writeValueAsBytes(new SnapshotHeader(embeddingClient.modelId(), current.documents.size()));
+            byte[] payload = objectMapper.writeValueAsBytes(current.documents);
+            HnswIndex graph = current.index;
+
+            long size = 4 + header.length + graph.byteSize() + 4 + payload.length;
+            Files.createDirectories(file.toAbsolutePath().getParent());
+            Path tmp = Files.createTempFile(file.toAbsolutePath().getParent(), "vectors", ".tmp");
+            try (FileChannel channel = FileChannel.open(tmp, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+                buffer.putInt(header.length).put(header);
+                graph.writeTo(buffer);
+                buffer.putInt(payload.length).put(payload);
+                buffer.force();
+            }
+            // 임시 파일에 쓴 뒤 이동하여, 저장 중 종료되어도 이전 스냅샷이 남도록 함
+            Files.move(tmp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            log.info("벡터 인덱스 스냅샷 저장: {} ({} bytes)", file, size);
+        } catch (IOException | RuntimeException e) {
+            dirty = true;
+            log.warn("벡터 인덱스 스냅샷 저장 실패: {}", e.getMessage());
+        }
+    }
+
+    private void loadSnapshot() {
+        Path file = Paths.get(snapshotPath);
+        if (!Files.exists(file)) return;
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+
+            byte[] header = new byte[buffer.getInt()];
+            buffer.get(header);
+            SnapshotHeader snapshotHeader = objectMapper.readValue(header, SnapshotHeader.class);
+            // 임베딩 모델이 바뀌었으면 벡터를 비교할 수 없으므로 새로 색인
+            if (!embeddingClient.modelId().equals(snapshotHeader.getModelId())) {
+                log.info("임베딩 모델 변경으로 벡터 인덱스 스냅샷 무시: {} → {}", snapshotHeader.getModelId(), embeddingClient.modelId());
+                return;
+            }
+
+            HnswIndex restored = HnswIndex.readFrom(buffer);
+            byte[] payload = new byte[buffer.getInt()];
+            buffer.get(payload);
+            List<IndexedDocument> restoredDocuments = objectMapper.readValue(
+                    new String(payload, StandardCharsets.UTF_8), new TypeReference<List<IndexedDocument>>() {});
+            if (restored.size() != restoredDocuments.size()) {
+                throw new IllegalStateException("문서 수와 벡터 수가 다릅니다.");
+            }
+            for (IndexedDocument doc : restoredDocuments) {
+                if (KIND_ANSWER.equals(doc.getKind())) {
+                    log.info("벡터 인덱스 스냅샷에 생성 답변이 있어 무시하고 새로 색인");
+                    return;
+                }
+            }
+
+            // 내용 해시가 없거나(이전 형식) 다른 문서는 이어서 sync()에서 다시 임베딩됨
+            catalog = new Catalog(restored, List.copyOf(restoredDocuments));
+            log.info("벡터 인덱스 스냅샷 복원: documents={}", restoredDocuments.size());
+        } catch (IOException | RuntimeException e) {
+            log.warn("벡터 인덱스 스냅샷 복원 실패, 새로 색인: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 색인된 문서 (스냅샷에 JSON으로 저장)
+     */
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class IndexedDocument {
+        private String id;
+        private String kind;
+        private String region;
+        private String title;
+        private String text;
+        private String link;
+        // 내용 해시 (SHA-256, 복지 데이터가 바뀌었는지 비교용)
+        private String hash;
+    }
+
+    // 인덱스와 문서 목록 한 세대 (노드 번호 = 목록 인덱스)
+    private static class Catalog {
+        private final HnswIndex index;
+        private final List<IndexedDocument> documents;
+
+        private Catalog(HnswIndex index, List<IndexedDocument> documents) {
+            this.index = index;
+            this.documents = documents;
+        }
+    }
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class SnapshotHeader {
+        private String modelId;
+        private int count;
+    }
+}
@@ -0,0 +1,50 @@
+package com.silverbridge.backend.service.chatbot;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 스트리밍으로 들어오는 LLM 토큰을 문장 단위로 잘라내는 분리기
+ * - 마침표/물음표/느낌표 뒤에 공백이 오거나 줄바꿈을 만나면 문장이 끝난 것으로 판단
+ * - "3.5"처럼 숫자 사이의 마침표는 뒤에 공백이 없으므로 문장 끝으로 보지 않음
+ * - 너무 짧은 문장("네.")은 다음 문장과 합쳐서 TTS 호출 횟수를 줄임
+ */
+class SentenceSplitter {
+
+    private static final int MIN_SENTENCE_LENGTH = 8;
+
+    private final StringBuilder buffer = new StringBuilder();
+
+    // 토큰을 추가하고, 완성된 문장이 있으면 반환
+    List<String> append(String token) {
+        List<String> sentences = new ArrayList<>();
+        if (token == null || token.isEmpty()) return sentences;
+        buffer.append(token);
+
+        int start = 0;
+        for (int i = 0; i < buffer.length(); i++) {
+            if (!isBoundary(i)) continue;
+            String sentence = buffer.substring(start, i + 1).trim();
+            if (sentence.length() < MIN_SENTENCE_LENGTH) continue;
+            sentences.add(sentence);
+            start = i + 1;
+        }
+        buffer.delete(0, start);
+        return sentences;
+    }
+
+    // 스트림 종료 시 남은 텍스트를 마지막 문장으로 반환
+    String flush() {
+        String rest = buffer.toString().trim();
+        buffer.setLength(0);
+        return rest;
+    }
+
+    private boolean isBoundary(int i) {
+        char c = buffer.charAt(i);
+        if (c == '\n') return true;
+        if (c != '.' && c != '?' && c != '!' && c != '。') return false;
+        // 다음 글자가 아직 도착하지 않았으면 판단을 보류
+        return i + 1 < buffer.length() && Character.isWhitespace(buffer.charAt(i + 1));
+    }
+}
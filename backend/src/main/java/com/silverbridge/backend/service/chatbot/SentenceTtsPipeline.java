@@ -0,0 +1,158 @@
+package com.silverbridge.backend.service.chatbot;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.BiConsumer;
+
+/**
+ * 문장 단위 LLM → TTS 파이프라인
+ * - 스트리밍 답변에서 문장이 완성되는 즉시 TTS를 요청 (동시 실행 수는 ttsSegmentExecutor 크기로 제한)
+ * - 합성이 끝난 순서와 관계없이 문장 순서대로 음성 조각을 전달
+ * - cancel() 이후에는 새 문장을 합성하지 않고, 진행 중인 조각도 전달하지 않음
+ * - accept()는 Reactor 스레드에서 호출되므로 합성은 항상 TTS 스레드에서 실행
+ *   (Executor가 가득 차 거절되면 대기열에 두고, 앞선 합성을 마친 TTS 스레드나 finish() 호출 스레드가 순서대로 처리)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SentenceTtsPipeline {
+
+    private final TtsClient ttsClient;
+    private final ThreadPoolTaskExecutor ttsSegmentExecutor;
+
+    /**
+     * 한 번의 답변에 대한 파이프라인 시작
+     *
+     * @param regionCode 지역 코드 (목소리 선택)
+     * @param onSegment  (문장 순번, 음성 URL) 콜백 - 순번 순서대로 호출됨
+     */
+    public Run start(String regionCode, BiConsumer<Integer, String> onSegment) {
+        return new Run(regionCode, onSegment);
+    }
+
+    public class Run {
+        private final String regionCode;
+        private final BiConsumer<Integer, String> onSegment;
+        private final SentenceSplitter splitter = new SentenceSplitter();
+
+        // 앞 문장의 전달이 끝나야 다음 문장을 전달하도록 이어 붙이는 체인
+        private CompletableFuture<Void> emitChain = CompletableFuture.completedFuture(null);
+        private int nextIndex = 0;
+        private volatile boolean cancelled = false;
+
+        // 합성을 기다리는 문장 (앞 문장부터, this로 보호)
+        private final Deque<Segment> waiting = new ArrayDeque<>();
+        // 대기열 중 Executor가 거절하여 맡은 작업이 없는 문장 수
+        private int unassigned = 0;
+
+        private Run(String regionCode, BiConsumer<Integer, String> onSegment) {
+            this.regionCode = regionCode;
+            this.onSegment = onSegment;
+        }
+
+        // LLM 토큰 추가
+        public synchronized void accept(String token) {
+            if (cancelled) return;
+            for (String sentence : splitter.append(token)) {
+                submit(sentence);
+            }
+        }
+
+        // 클라이언트 연결 종료 시 중단 (대기 중인 문장은 합성하지 않음)
+        public void cancel() {
+            cancelled = true;
+            synchronized (this) {
+                for (Segment segment : waiting) {
+                    segment.audio.complete(null);
+                }
+                waiting.clear();
+                unassigned = 0;
+            }
+        }
+
+        // 남은 텍스트까지 합성 요청 후, 모든 조각이 전달되면 완료되는 Future 반환
+        public CompletableFuture<Void> finish() {
+            CompletableFuture<Void> done;
+            synchronized (this) {
+                String rest = splitter.flush();
+                if (!cancelled && !rest.isBlank()) {
+                    submit(rest);
+                }
+                done = emitChain;
+            }
+            // 거절되어 남은 문장은 호출 스레드(파이프라인)에서 순서대로 합성
+            Segment segment;
+            while ((segment = takeNext(true)) != null) {
+                synthesize(segment);
+            }
+            return done;
+        }
+
+        private void submit(String sentence) {
+            Segment segment = new Segment(nextIndex++, sentence);
+            waiting.add(segment);
+
+            emitChain = emitChain.thenCombine(segment.audio, (ignored, audioUrl) -> {
+                if (audioUrl != null && !cancelled) {
+                    onSegment.accept(segment.index, audioUrl);
+                }
+                return null;
+            });
+
+            try {
+                ttsSegmentExecutor.execute(this::work);
+            } catch (TaskRejectedException e) {
+                // 호출 스레드(Reactor)에서 합성하지 않고 대기열에 남겨 둠
+                unassigned++;
+            }
+        }
+
+        // TTS 스레드: 맨 앞 문장을 합성한 뒤, 맡은 작업이 없는 문장이 남아 있으면 이어서 처리
+        private void work() {
+            Segment segment = takeNext(false);
+            while (segment != null) {
+                synthesize(segment);
+                segment = takeNext(true);
+            }
+        }
+
+        private synchronized Segment takeNext(boolean onlyUnassigned) {
+            if (onlyUnassigned) {
+                if (unassigned == 0) return null;
+                unassigned--;
+            }
+            return waiting.poll();
+        }
+
+        private void synthesize(Segment segment) {
+            String audioUrl = null;
+            try {
+                if (!cancelled) audioUrl = ttsClient.synthesize(segment.sentence, regionCode);
+            } catch (RuntimeException e) {
+                log.warn("문장 TTS 실패 ({}): {}", segment.index, e.getMessage());
+            }
+            segment.audio.complete(audioUrl);
+        }
+    }
+
+    /**
+     * 합성할 문장 하나
+     */
+    private static class Segment {
+        final int index;
+        final String sentence;
+        final CompletableFuture<String> audio = new CompletableFuture<>();
+
+        Segment(int index, String sentence) {
+            this.index = index;
+            this.sentence = sentence;
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.silverbridge.backend.service.chatbot;
+
+import com.knuddels.jtokkit.Encodings;
+import com.knuddels.jtokkit.api.Encoding;
+import com.knuddels.jtokkit.api.EncodingType;
+import com.silverbridge.backend.dto.chatbot.MessageDto;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * GPT-4o 토크나이저(o200k_base) 기준 토큰 수 계산기
+ * - 네트워크 호출 없이 프로세스 안에서 BPE 인코딩으로 계산 (한국어도 실제 과금 토큰과 동일)
+ * - 채팅 메시지는 역할/구분자 토큰이 추가로 붙으므로 메시지당 고정 비용을 더함
+ */
+@Component
+public class TokenCounter {
+
+    // 채팅 형식의 메시지당 추가 토큰 (<|start|>role ... <|end|>)
+    private static final int TOKENS_PER_MESSAGE = 3;
+    // 응답 시작 부분에 붙는 토큰 (<|start|>assistant)
+    private static final int TOKENS_PER_REPLY = 3;
+
+    private final Encoding encoding = Encodings.newDefaultEncodingRegistry().getEncoding(EncodingType.O200K_BASE);
+
+    // 텍스트 토큰 수
+    public int count(String text) {
+        if (text == null || text.isEmpty()) return 0;
+        return encoding.countTokens(text);
+    }
+
+    // 메시지 1건의 토큰 수 (메시지 형식 비용 포함)
+    public int count(MessageDto message) {
+        return TOKENS_PER_MESSAGE + count(message.getRole()) + count(message.getContent());
+    }
+
+    // 프롬프트 전체 토큰 수 (응답 시작 토큰 포함)
+    public int countPrompt(List<MessageDto> messages) {
+        int total = TOKENS_PER_REPLY;
+        for (MessageDto m : messages) {
+            total += count(m);
+        }
+        return total;
+    }
+}
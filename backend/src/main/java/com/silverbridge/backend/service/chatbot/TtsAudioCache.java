@@ -0,0 +1,291 @@
+package com.silverbridge.backend.service.chatbot;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.nio.file.attribute.FileTime;
+import java.security.InvalidKeyException;
+import java.security.NoSuchAlgorithmException;
+import java.text.Normalizer;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * TTS 음성 캐시 겸 저장소 (내용 주소 기반)
+ * - 키: HMAC-SHA256(서버 비밀값, model/voice/정규화된 텍스트) - 음성 다운로드 URL의 ID로도 사용
+ *   (비밀값 없이는 문장으로부터 ID를 계산할 수 없으므로, 공개 URL로 특정 문장이 합성되었는지 확인할 수 없음)
+ * - 1차: 메모리 LRU (총 바이트 수 제한)
+ * - 2차: 디스크 ({key}.mp3 파일, 총 용량 초과 시 오래 사용하지 않은 파일부터 삭제)
+ *   · 최근 min-retention-days 안에 발급/사용된 파일은 용량을 넘어도 삭제하지 않음 (그동안 응답에 담긴 URL은 유효)
+ *   · 단, 디스크 사용량이 disk-hard-max-bytes를 넘으면 보관 기간 안의 파일도 오래된 순으로 삭제
+ * - 메트릭: tts.cache.requests{result=memory_hit|disk_hit|miss}, tts.cache.memory.bytes, tts.cache.disk.bytes,
+ *   tts.cache.disk.forced.evictions (보관 기간 안에서 삭제된 파일 수)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TtsAudioCache {
+
+    private static final String FILE_SUFFIX = ".mp3";
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${chatbot.tts.cache.memory-max-bytes:33554432}")
+    private long memoryMaxBytes;
+
+    @Value("${chatbot.tts.cache.disk-max-bytes:524288000}")
+    private long diskMaxBytes;
+
+    // 보관 기간과 관계없이 넘지 않는 디스크 상한
+    @Value("${chatbot.tts.cache.disk-hard-max-bytes:1073741824}")
+    private long diskHardMaxBytes;
+
+    @Value("${chatbot.tts.cache.dir:${java.io.tmpdir}/silverbridge-tts}")
+    private String cacheDir;
+
+    // 음성 ID 생성용 전용 비밀값 (JWT 등 다른 키와 공유하지 않음, 없으면 시작 실패)
+    @Value("${chatbot.tts.cache.id-secret}")
+    private String idSecret;
+
+    // 마지막 사용 후 이 기간 동안은 디스크에서 삭제하지 않음
+    @Value("${chatbot.tts.cache.min-retention-days:7}")
+    private long minRetentionDays;
+
+    // 접근 순서 기반 LinkedHashMap (가장 오래 사용하지 않은 항목이 맨 앞)
+    private final LinkedHashMap<String, byte[]> memory = new LinkedHashMap<>(64, 0.75f, true);
+    private long memoryBytes = 0;
+
+    private final AtomicLong diskBytes = new AtomicLong();
+    private Path dir;
+    private SecretKeySpec idKey;
+
+    private Counter memoryHits;
+    private Counter diskHits;
+    private Counter misses;
+    private Counter forcedEvictions;
+
+    @PostConstruct
+    public void init() throws IOException {
+        if (idSecret == null || idSecret.isBlank()) {
+            throw new IllegalStateException("chatbot.tts.cache.id-secret(TTS_AUDIO_ID_SECRET)이 설정되지 않았습니다.");
+        }
+        idKey = new SecretKeySpec(idSecret.getBytes(StandardCharsets.UTF_8), HMAC_ALGORITHM);
+
+        dir = Paths.get(cacheDir);
+        Files.createDirectories(dir);
+
+        // 기존 디스크 캐시 용량 집계 (재시작 후에도 디스크 캐시 재사용)
+        try (Stream<Path> files = Files.list(dir)) {
+            diskBytes.set(files.filter(p -> p.toString().endsWith(FILE_SUFFIX))
+                    .mapToLong(this::sizeOf)
+                    .sum());
+        }
+
+        memoryHits = Counter.builder("tts.cache.requests").tag("result", "memory_hit").register(meterRegistry);
+        diskHits = Counter.builder("tts.cache.requests").tag("result", "disk_hit").register(meterRegistry);
+        misses = Counter.builder("tts.cache.requests").tag("result", "miss").register(meterRegistry);
+        forcedEvictions = Counter.builder("tts.cache.disk.forced.evictions").register(meterRegistry);
+        Gauge.builder("tts.cache.memory.bytes", this, c -> c.currentMemoryBytes()).register(meterRegistry);
+        Gauge.builder("tts.cache.disk.bytes", diskBytes, AtomicLong::get).register(meterRegistry);
+
+        log.info("TTS 캐시 초기화 완료: dir={}, diskBytes={}", dir, diskBytes.get());
+    }
+
+    /**
+     * 캐시 키 생성
+     * - 공백/유니코드 정규화 후 HMAC을 계산하므로 표기만 다른 동일 문장은 같은 키가 됨
+     */
+    public String key(String model, String voice, String text) {
+        String normalized = normalize(text);
+        try {
+            // Mac은 스레드 안전하지 않으므로 호출마다 생성
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(idKey);
+            mac.update(model.getBytes(StandardCharsets.UTF_8));
+            mac.update((byte) 0);
+            mac.update(voice.getBytes(StandardCharsets.UTF_8));
+            mac.update((byte) 0);
+            mac.update(normalized.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(mac.doFinal());
+        } catch (NoSuchAlgorithmException | InvalidKeyException e) {
+            throw new IllegalStateException("HmacSHA256을 사용할 수 없습니다.", e);
+        }
+    }
+
+    /**
+     * 캐시 존재 여부 확인 (적중/미스 메트릭 기록)
+     * 디스크 파일은 최근 사용 시각을 갱신하여 정리 대상에서 뒤로 미룸
+     */
+    public boolean contains(String key) {
+        synchronized (memory) {
+            if (memory.containsKey(key)) {
+                memoryHits.increment();
+                return true;
+            }
+        }
+
+        Path file = fileOf(key);
+        if (Files.exists(file)) {
+            touch(file);
+            diskHits.increment();
+            return true;
+        }
+
+        misses.increment();
+        return false;
+    }
+
+    /**
+     * 음성 데이터를 Resource로 조회 (메모리 → 디스크 순). 없으면 null
+     * - 디스크 파일은 메모리에 올리지 않고 FileSystemResource로 그대로 스트리밍
+     */
+    public Resource load(String key) {
+        synchronized (memory) {
+            byte[] audio = memory.get(key);
+            if (audio != null) {
+                return new ByteArrayResource(audio);
+            }
+        }
+
+        Path file = fileOf(key);
+        if (Files.exists(file)) {
+            touch(file);
+            return new FileSystemResource(file);
+        }
+        return null;
+    }
+
+    // 캐시 저장 (메모리 + 디스크)
+    public void put(String key, byte[] audio) {
+        if (audio == null || audio.length == 0) return;
+        putMemory(key, audio);
+        putDisk(key, audio);
+    }
+
+    private void putMemory(String key, byte[] audio) {
+        // 한 항목이 메모리 한도를 넘으면 디스크에만 보관
+        if (audio.length > memoryMaxBytes) return;
+
+        synchronized (memory) {
+            byte[] previous = memory.put(key, audio);
+            if (previous != null) memoryBytes -= previous.length;
+            memoryBytes += audio.length;
+
+            var it = memory.entrySet().iterator();
+            while (memoryBytes > memoryMaxBytes && it.hasNext()) {
+                Map.Entry<String, byte[]> eldest = it.next();
+                memoryBytes -= eldest.getValue().length;
+                it.remove();
+            }
+        }
+    }
+
+    private void putDisk(String key, byte[] audio) {
+        Path file = fileOf(key);
+        if (Files.exists(file)) return;
+
+        try {
+            // 임시 파일에 쓴 뒤 이동하여, 읽는 쪽에서 반쯤 쓰인 파일을 보지 않도록 함
+            Path tmp = Files.createTempFile(dir, key, ".tmp");
+            Files.write(tmp, audio);
+            Files.move(tmp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            if (diskBytes.addAndGet(audio.length) > diskMaxBytes) {
+                evictDisk();
+            }
+        } catch (IOException e) {
+            log.warn("TTS 디스크 캐시 쓰기 실패: {}", e.getMessage());
+        }
+    }
+
+    // 디스크 용량 초과 시, 최근 사용 시각이 오래된 파일부터 한도의 90%가 될 때까지 삭제
+    // (보관 기간 안의 파일은 절대 상한을 넘었을 때만 삭제)
+    private synchronized void evictDisk() {
+        if (diskBytes.get() <= diskMaxBytes) return;
+        long target = diskMaxBytes * 9 / 10;
+        FileTime retainedSince = FileTime.fromMillis(System.currentTimeMillis() - TimeUnit.DAYS.toMillis(minRetentionDays));
+
+        try (Stream<Path> files = Files.list(dir)) {
+            List<Path> candidates = files
+                    .filter(p -> p.toString().endsWith(FILE_SUFFIX))
+                    .sorted(Comparator.comparing(this::lastModified))
+                    .toList();
+
+            for (Path p : candidates) {
+                if (diskBytes.get() <= target) break;
+                // 오래된 순으로 정렬되어 있으므로 보관 기간 안의 파일부터는 절대 상한 이하가 되면 중단
+                boolean retained = lastModified(p).compareTo(retainedSince) > 0;
+                if (retained && diskBytes.get() <= diskHardMaxBytes) break;
+                long size = sizeOf(p);
+                if (Files.deleteIfExists(p)) {
+                    diskBytes.addAndGet(-size);
+                    if (retained) forcedEvictions.increment();
+                }
+            }
+        } catch (IOException e) {
+            log.warn("TTS 디스크 캐시 정리 실패: {}", e.getMessage());
+        }
+    }
+
+    // 최근 사용 시각 갱신 (디스크 LRU 기준)
+    private void touch(Path file) {
+        try {
+            Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis()));
+        } catch (IOException e) {
+            log.warn("TTS 디스크 캐시 시각 갱신 실패: {}", e.getMessage());
+        }
+    }
+
+    private long currentMemoryBytes() {
+        synchronized (memory) {
+            return memoryBytes;
+        }
+    }
+
+    private Path fileOf(String key) {
+        return dir.resolve(key + FILE_SUFFIX);
+    }
+
+    private long sizeOf(Path p) {
+        try {
+            return Files.size(p);
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    private FileTime lastModified(Path p) {
+        try {
+            return Files.getLastModifiedTime(p);
+        } catch (IOException e) {
+            return FileTime.fromMillis(0);
+        }
+    }
+
+    private String normalize(String text) {
+        if (text == null) return "";
+        return Normalizer.normalize(text, Normalizer.Form.NFC)
+                .trim()
+                .replaceAll("\\s+", " ");
+    }
+}
@@ -6,11 +6,8 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.*;
 import org.springframework.stereotype.Component;
-import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
 
-import java.util.Base64;
-
 /**
  * TTS(Text-to-Speech) API 호출 클라이언트
  * OpenAI TTS API (tts-1) 연동
@@ -19,7 +16,11 @@ import java.util.Base64;
 @RequiredArgsConstructor
 public class TtsClient {
 
-    private final RestTemplate restTemplate;
+    private final RestTemplate ttsRestTemplate;
+    private final TtsAudioCache ttsAudioCache;
+
+    // 동시 호출 제한 + 서킷 브레이커 (실패/차단 시 음성 없이 답변)
+    private final DependencyGuards dependencyGuards;
 
     // application.yml에서 OpenAI TTS 설정값 주입
     @Value("${chatbot.tts.openai.url}")
@@ -28,6 +29,10 @@ public class TtsClient {
     @Value("${chatbot.tts.openai.model}")
     private String openAiTtsModel;
 
+    // 음성 다운로드 URL 접두사 (뒤에 캐시 키가 붙음)
+    @Value("${chatbot.tts.audio-base-url:/api/chatbot/audio/}")
+    private String audioBaseUrl;
+
     // 이미 설정된 OpenAI API 키 재사용
     @Value("${spring.ai.openai.api-key}")
     private String openAiApiKey;
@@ -37,46 +42,53 @@ public class TtsClient {
      *
      * @param text 음성으로 변환할 텍스트
      * @param regionCode 지역 코드 (std, gs, jl)에 따라 목소리 톤 변경
-     * @return Base64로 인코딩된 MP3 데이터 URI (바로 재생 가능)
+     * @return 합성된 MP3의 다운로드 URL (예: /api/chatbot/audio/{ID}), 합성에 실패하면 null
      */
     public String synthesize(String text, String regionCode) {
 
+        // API 키가 없으면 음성 없이 답변 (오류 문구를 음성 URL로 반환하지 않음)
         if (openAiApiKey == null || openAiApiKey.isBlank()) {
-            return "오류: OpenAI API 키가 설정되지 않았습니다.";
+            return null;
         }
 
-        try {
-            // 1. HTTP 헤더 설정
+        // 1. 목소리(Voice) 선택
+        // (사투리 억양 자체는 미지원이나, 목소리 톤으로 화자 구분)
+        String voice = pickVoice(regionCode);
+
+        // 2. 캐시 조회 (동일 model/voice/문장이면 재합성하지 않음)
+        String cacheKey = ttsAudioCache.key(openAiTtsModel, voice, text);
+        if (ttsAudioCache.contains(cacheKey)) {
+            return toAudioUrl(cacheKey);
+        }
+
+        return dependencyGuards.get(DependencyGuards.TTS).call(() -> {
+            // 3. HTTP 헤더 설정
             HttpHeaders headers = new HttpHeaders();
             headers.setContentType(MediaType.APPLICATION_JSON);
             headers.setBearerAuth(openAiApiKey);
 
-            // 2. 목소리(Voice) 선택
-            // (사투리 억양 자체는 미지원이나, 목소리 톤으로 화자 구분)
-            String voice = pickVoice(regionCode);
-
-            // 3. 요청 바디 생성
+            // 4. 요청 바디 생성
             OpenAiTtsRequest requestBody = new OpenAiTtsRequest(openAiTtsModel, text, voice);
 
             HttpEntity<OpenAiTtsRequest> requestEntity = new HttpEntity<>(requestBody, headers);
 
-            // 4. API 호출 (응답을 바이트 배열로 수신)
-            ResponseEntity<byte[]> response = restTemplate.postForEntity(openAiTtsUrl, requestEntity, byte[].class);
+            // 5. API 호출 (응답을 바이트 배열로 수신)
+            ResponseEntity<byte[]> response = ttsRestTemplate.postForEntity(openAiTtsUrl, requestEntity, byte[].class);
 
             if (response.getStatusCode() == HttpStatus.OK && response.getBody() != null) {
-                // 5. MP3 바이트 배열을 Base64 문자열로 변환
-                String base64Audio = Base64.getEncoder().encodeToString(response.getBody());
+                // 6. 성공한 결과만 저장 (한 번 저장된 음성은 URL로 재사용)
+                ttsAudioCache.put(cacheKey, response.getBody());
 
-                // 6. 프론트엔드에서 바로 재생 가능한 Data URI 반환
-                return "data:audio/mp3;base64," + base64Audio;
-            } else {
-                return "TTS API 응답 오류: " + response.getStatusCode();
+                // 7. 음성 다운로드 URL 반환 (ChatAudioController에서 스트리밍)
+                return toAudioUrl(cacheKey);
             }
+            throw new IllegalStateException("TTS API 응답 오류: " + response.getStatusCode());
+        }, () -> null);
+    }
 
-        } catch (RestClientException e) {
-            e.printStackTrace();
-            return "TTS API 호출 실패: " + e.getMessage();
-        }
+    // 캐시 키를 음성 다운로드 URL로 변환
+    private String toAudioUrl(String cacheKey) {
+        return audioBaseUrl + cacheKey;
     }
 
     /**
@@ -0,0 +1,307 @@
+package com.silverbridge.backend.service.chatbot;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.silverbridge.backend.dto.chatbot.SearchResDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.text.Normalizer;
+import java.util.*;
+import java.util.stream.Stream;
+
+/**
+ * 복지 프로그램 로컬 검색 인덱스 (BM25)
+ * - 한국어는 띄어쓰기/조사 변화가 많으므로 어절을 글자 2-gram으로 쪼개 색인 ("기초연금은" → 기초, 초연, 연금, 금은)
+ * - 데이터: 기본 내장 파일(classpath:welfare/programs.jsonl) + data-dir의 *.jsonl 파일 (한 줄에 프로그램 하나)
+ * - region이 "all"인 프로그램은 모든 지역, 그 외는 해당 지역 사용자에게만 검색됨
+ * - data-dir 파일이 바뀌면 새 인덱스를 만든 뒤 한 번에 교체하므로 검색 중인 요청은 영향을 받지 않음
+ * - 교체 후 RebuiltEvent를 발행 (SemanticRetriever가 벡터 인덱스를 맞춤)
+ * - 메트릭: welfare.index.requests{result=hit|miss}
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WelfareIndex {
+
+    private static final String BUNDLED_DATA = "welfare/programs.jsonl";
+    private static final String ALL_REGIONS = "all";
+
+    // BM25 파라미터 (일반적인 기본값)
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${chatbot.welfare.data-dir:}")
+    private String dataDir;
+
+    @Value("${chatbot.welfare.top-k:3}")
+    private int topK;
+
+    // 관련성 기준 (둘 다 만족해야 로컬 결과 사용, 아니면 네이버 검색으로 대체)
+    // - min-match-ratio: 인덱스에 있는 질의어가 모두 완벽히 일치할 때 대비 점수 비율
+    // - min-query-coverage: 질의어 전체(인덱스에 없는 말 포함)가 완벽히 일치할 때 대비 점수 비율
+    @Value("${chatbot.welfare.min-match-ratio:0.4}")
+    private double minMatchRatio;
+
+    @Value("${chatbot.welfare.min-query-coverage:0.1}")
+    private double minQueryCoverage;
+
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+    private long dataDirModified = -1;
+
+    private Counter hits;
+    private Counter misses;
+
+    @PostConstruct
+    public void init() {
+        hits = Counter.builder("welfare.index.requests").tag("result", "hit").register(meterRegistry);
+        misses = Counter.builder("welfare.index.requests").tag("result", "miss").register(meterRegistry);
+        rebuild();
+    }
+
+    /**
+     * 지역에 맞는 복지 프로그램 검색
+     *
+     * @return 점수가 기준 이상인 상위 top-k개 (충분히 관련된 결과가 없으면 빈 목록)
+     */
+    public List<SearchResDto> search(String regionCode, String query) {
+        Snapshot current = snapshot;
+        List<String> terms = tokenize(query);
+        if (terms.isEmpty() || current.documents.isEmpty()) {
+            misses.increment();
+            return new ArrayList<>();
+        }
+
+        String region = regionCode == null ? "std" : regionCode.toLowerCase();
+        double[] scores = new double[current.documents.size()];
+        double maxQueryScore = 0;
+        double maxMatchScore = 0;
+
+        for (String term : new LinkedHashSet<>(terms)) {
+            List<Posting> postings = current.postings.get(term);
+            double idf = current.idf(postings == null ? 0 : postings.size());
+            maxQueryScore += idf * (K1 + 1);
+            if (postings == null) continue;
+            maxMatchScore += idf * (K1 + 1);
+
+            for (Posting p : postings) {
+                double norm = K1 * (1 - B + B * current.lengths[p.doc] / current.averageLength);
+                scores[p.doc] += idf * (p.tf * (K1 + 1)) / (p.tf + norm);
+            }
+        }
+
+        // 점수 내림차순 상위 top-k (문서 수가 적으므로 단순 정렬)
+        double threshold = Math.max(maxMatchScore * minMatchRatio, maxQueryScore * minQueryCoverage);
+        List<Integer> ranked = new ArrayList<>();
+        for (int doc = 0; doc < scores.length; doc++) {
+            if (scores[doc] <= 0 || scores[doc] < threshold) continue;
+            String docRegion = current.documents.get(doc).getRegion();
+            if (!ALL_REGIONS.equals(docRegion) && !region.equals(docRegion)) continue;
+            ranked.add(doc);
+        }
+        ranked.sort((a, b) -> Double.compare(scores[b], scores[a]));
+
+        List<SearchResDto> results = new ArrayList<>();
+        for (int i = 0; i < Math.min(topK, ranked.size()); i++) {
+            WelfareProgram program = current.documents.get(ranked.get(i));
+            results.add(new SearchResDto(program.getTitle(), program.getDescription(), program.getLink()));
+        }
+        (results.isEmpty() ? misses : hits).increment();
+        return results;
+    }
+
+    // 현재 색인된 복지 프로그램 목록 (벡터 인덱스 구축용)
+    public List<WelfareProgram> programs() {
+        return snapshot.documents;
+    }
+
+    // data-dir 파일 변경 감지 시 재색인
+    @Scheduled(fixedDelayString = "${chatbot.welfare.reload-interval-ms:60000}")
+    public void reloadIfChanged() {
+        if (dataDir == null || dataDir.isBlank()) return;
+        if (lastModified(Paths.get(dataDir)) != dataDirModified) {
+            rebuild();
+        }
+    }
+
+    /**
+     * 전체 재색인 후 교체
+     * - 파일을 읽다가 실패하면 기존 인덱스를 유지
+     */
+    public synchronized void rebuild() {
+        try {
+            List<WelfareProgram> programs = new ArrayList<>();
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                    new ClassPathResource(BUNDLED_DATA).getInputStream(), StandardCharsets.UTF_8))) {
+                programs.addAll(readPrograms(reader));
+            }
+
+            if (dataDir != null && !dataDir.isBlank()) {
+                Path dir = Paths.get(dataDir);
+                dataDirModified = lastModified(dir);
+                if (Files.isDirectory(dir)) {
+                    try (Stream<Path> files = Files.list(dir)) {
+                        for (Path file : files.filter(p -> p.toString().endsWith(".jsonl")).sorted().toList()) {
+                            try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+                                programs.addAll(readPrograms(reader));
+                            }
+                        }
+                    }
+                }
+            }
+
+            snapshot = Snapshot.build(dedupe(programs));
+            log.info("복지 인덱스 구축 완료: programs={}, terms={}", snapshot.documents.size(), snapshot.postings.size());
+            eventPublisher.publishEvent(new RebuiltEvent(snapshot.documents.size()));
+        } catch (IOException e) {
+            log.warn("복지 인덱스 구축 실패, 기존 인덱스 유지: {}", e.getMessage());
+        }
+    }
+
+    private List<WelfareProgram> readPrograms(BufferedReader reader) throws IOException {
+        List<WelfareProgram> programs = new ArrayList<>();
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (line.isBlank()) continue;
+            WelfareProgram program = objectMapper.readValue(line, WelfareProgram.class);
+            if (program.getRegion() == null || program.getRegion().isBlank()) program.setRegion(ALL_REGIONS);
+            program.setRegion(program.getRegion().toLowerCase());
+            programs.add(program);
+        }
+        return programs;
+    }
+
+    // 같은 id는 나중에 읽은 것(data-dir)이 내장 데이터를 덮어씀
+    private List<WelfareProgram> dedupe(List<WelfareProgram> programs) {
+        Map<String, WelfareProgram> byId = new LinkedHashMap<>();
+        for (WelfareProgram p : programs) {
+            byId.put(p.getId() != null ? p.getId() : p.getRegion() + ":" + p.getTitle(), p);
+        }
+        return new ArrayList<>(byId.values());
+    }
+
+    // 디렉터리와 그 안 파일 중 가장 최근 수정 시각 (파일 추가/삭제/수정 감지용)
+    private long lastModified(Path dir) {
+        if (!Files.isDirectory(dir)) return 0;
+        try (Stream<Path> files = Files.list(dir)) {
+            long latest = Files.getLastModifiedTime(dir).toMillis();
+            for (Path p : files.toList()) {
+                latest = Math.max(latest, Files.getLastModifiedTime(p).toMillis());
+            }
+            return latest;
+        } catch (IOException e) {
+            return dataDirModified;
+        }
+    }
+
+    /**
+     * 한국어 n-gram 토큰화
+     * - 어절 단위로 나눈 뒤 한글 어절은 글자 2-gram, 한 글자 어절은 그대로, 영문/숫자는 어절 전체
+     */
+    static List<String> tokenize(String text) {
+        List<String> terms = new ArrayList<>();
+        if (text == null) return terms;
+
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFC).toLowerCase();
+        for (String word : normalized.split("[^\\p{IsHangul}\\p{IsAlphabetic}\\p{IsDigit}]+")) {
+            if (word.isEmpty()) continue;
+            if (word.length() == 1 || !word.codePoints().anyMatch(c -> Character.UnicodeScript.of(c) == Character.UnicodeScript.HANGUL)) {
+                terms.add(word);
+                continue;
+            }
+            for (int i = 0; i + 2 <= word.length(); i++) {
+                terms.add(word.substring(i, i + 2));
+            }
+        }
+        return terms;
+    }
+
+    /**
+     * 복지 프로그램 데이터 (jsonl 한 줄)
+     */
+    @Getter
+    @Setter
+    public static class WelfareProgram {
+        private String id;
+        private String region;
+        private String title;
+        private String description;
+        private String link;
+    }
+
+    // 재색인 완료 이벤트
+    public record RebuiltEvent(int programs) {
+    }
+
+    // 역색인 항목 (문서 번호, 문서 내 출현 횟수)
+    private record Posting(int doc, int tf) {
+    }
+
+    /**
+     * 불변 인덱스 스냅샷 (재색인 시 통째로 교체)
+     */
+    private static class Snapshot {
+        static final Snapshot EMPTY = new Snapshot(List.of(), Map.of(), new int[0], 1);
+
+        final List<WelfareProgram> documents;
+        final Map<String, List<Posting>> postings;
+        final int[] lengths;
+        final double averageLength;
+
+        Snapshot(List<WelfareProgram> documents, Map<String, List<Posting>> postings, int[] lengths, double averageLength) {
+            this.documents = documents;
+            this.postings = postings;
+            this.lengths = lengths;
+            this.averageLength = averageLength;
+        }
+
+        static Snapshot build(List<WelfareProgram> documents) {
+            Map<String, List<Posting>> postings = new HashMap<>();
+            int[] lengths = new int[documents.size()];
+            long totalLength = 0;
+
+            for (int doc = 0; doc < documents.size(); doc++) {
+                WelfareProgram p = documents.get(doc);
+                // 제목은 본문보다 중요하므로 두 번 색인
+                List<String> terms = tokenize(p.getTitle() + " " + p.getTitle() + " " + p.getDescription());
+                lengths[doc] = terms.size();
+                totalLength += terms.size();
+
+                Map<String, Integer> tf = new HashMap<>();
+                for (String term : terms) tf.merge(term, 1, Integer::sum);
+                for (Map.Entry<String, Integer> e : tf.entrySet()) {
+                    postings.computeIfAbsent(e.getKey(), k -> new ArrayList<>()).add(new Posting(doc, e.getValue()));
+                }
+            }
+
+            double averageLength = documents.isEmpty() ? 1 : (double) totalLength / documents.size();
+            return new Snapshot(List.copyOf(documents), postings, lengths, averageLength);
+        }
+
+        // BM25 idf (음수가 되지 않도록 +1)
+        double idf(int documentFrequency) {
+            int n = documents.size();
+            return Math.log(1 + (n - documentFrequency + 0.5) / (documentFrequency + 0.5));
+        }
+    }
+}
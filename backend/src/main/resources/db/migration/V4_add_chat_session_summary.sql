@@ -0,0 +1,4 @@
+-- 대화 요약 메모리 (오래된 대화를 요약해 두고 프롬프트에는 요약 + 최근 대화만 전송)
+ALTER TABLE chat_session
+    ADD COLUMN IF NOT EXISTS summary TEXT,
+    ADD COLUMN IF NOT EXISTS summarized_until_id BIGINT;
@@ -0,0 +1,30 @@
+-- 감정 분석 결과를 문자열(VARCHAR) 대신 TINYINT 코드로 저장 (코드 ↔ 라벨은 Emotion enum)
+-- 0=기쁨, 1=슬픔, 2=분노, 3=불안, 4=당황, 5=상처, 6=중립
+ALTER TABLE chat_message
+    ADD COLUMN IF NOT EXISTS emotion_code TINYINT NULL;
+
+-- 기존 데이터 이관 ("분석실패", "오류" 등 알 수 없는 값과 ASSISTANT 메시지는 NULL → 감정 집계에서 제외)
+UPDATE chat_message
+SET emotion_code = CASE TRIM(emotion)
+                       WHEN '기쁨' THEN 0
+                       WHEN '행복' THEN 0
+                       WHEN '슬픔' THEN 1
+                       WHEN '분노' THEN 2
+                       WHEN '혐오' THEN 2
+                       WHEN '불안' THEN 3
+                       WHEN '공포' THEN 3
+                       WHEN '당황' THEN 4
+                       WHEN '놀람' THEN 4
+                       WHEN '상처' THEN 5
+                       WHEN '중립' THEN 6
+                       ELSE NULL
+    END
+WHERE emotion IS NOT NULL
+  AND emotion_code IS NULL;
+
+-- 사용자 세션별 기간 감정 집계용 인덱스
+CREATE INDEX IF NOT EXISTS idx_chat_message_session_created_emotion
+    ON chat_message (session_id, created_at, emotion_code);
+
+-- 기존 문자열 컬럼은 이관 확인 후 삭제
+-- ALTER TABLE chat_message DROP COLUMN emotion;
@@ -0,0 +1,20 @@
+-- 사용자별 일자별 감정 집계 (사용자 메시지 저장 시 +1, 매일 새벽 최근 며칠을 chat_message 기준으로 재계산)
+CREATE TABLE IF NOT EXISTS emotion_daily_stats (
+    id BIGINT PRIMARY KEY AUTO_INCREMENT,
+    user_id BIGINT NOT NULL,
+    day DATE NOT NULL,
+    emotion_code TINYINT NOT NULL,
+    cnt BIGINT NOT NULL DEFAULT 0,
+    CONSTRAINT uk_emotion_daily_stats_user_day_emotion UNIQUE (user_id, day, emotion_code)
+    );
+
+-- 기존 대화 이관 (V5의 emotion_code 기준)
+INSERT INTO emotion_daily_stats (user_id, day, emotion_code, cnt)
+SELECT cs.user_id, DATE(cm.created_at), cm.emotion_code, COUNT(*)
+FROM chat_message cm
+JOIN chat_session cs ON cm.session_id = cs.id
+WHERE cm.role = 'USER'
+  AND cm.emotion_code IS NOT NULL
+  AND cs.user_id IS NOT NULL
+GROUP BY cs.user_id, DATE(cm.created_at), cm.emotion_code
+ON DUPLICATE KEY UPDATE cnt = VALUES(cnt);
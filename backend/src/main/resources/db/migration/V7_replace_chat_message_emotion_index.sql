@@ -0,0 +1,6 @@
+-- 감정 집계가 emotion_daily_stats로 옮겨져 chat_message를 감정 코드로 집계하는 조회가 없어짐
+-- 남은 조회(세션별 최근 메시지: session_id = ? ORDER BY created_at DESC)에는 (session_id, created_at)만 필요
+CREATE INDEX IF NOT EXISTS idx_chat_message_session_created
+    ON chat_message (session_id, created_at);
+
+DROP INDEX IF EXISTS idx_chat_message_session_created_emotion ON chat_message;
@@ -0,0 +1,61 @@
+package com.silverbridge.backend.service.chatbot;
+
+import com.silverbridge.backend.domain.chatbot.Emotion;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * EmotionLexicon 라벨 말뭉치 테스트
+ * - 로컬에서 확정해도 되는 문장과, 부정 때문에 서버 모델로 넘겨야 하는 문장
+ */
+class EmotionLexiconTest {
+
+    private EmotionLexicon lexicon;
+
+    @BeforeEach
+    void setUp() {
+        lexicon = new EmotionLexicon(new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(lexicon, "confidenceThreshold", 0.65);
+    }
+
+    @ParameterizedTest(name = "{0} → {1}")
+    @CsvSource(delimiter = '|', value = {
+            "오늘 정말 행복해요              | JOY",
+            "손주가 와서 기뻐요              | JOY",
+            "날씨가 좋네                     | JOY",
+            "요즘 너무 외로워                | SADNESS",
+            "몸이 안 좋아                    | SADNESS",
+            "행복하지 않아                   | SADNESS",
+            "화가 나서 못 참겠어             | ANGER",
+            "병원 결과 나올까 봐 걱정돼      | ANXIETY",
+            "무릎이 안 아파서 다행이야       | JOY",
+    })
+    void classifiesConfidentlyLocally(String text, Emotion expected) {
+        EmotionLexicon.Result result = lexicon.classify(text);
+
+        assertThat(result.getEmotion()).isEqualTo(expected);
+        assertThat(result.isConfident()).isTrue();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "기쁘지 않아",
+            "반갑지도 않아",
+            "좋아지질 않네",
+            "아들이 와주면 좋겠는데",
+            "외롭지 않아",
+            "슬프지 않아",
+            "화나지 않았어",
+            "안 슬퍼",
+            "그냥 그래요",
+    })
+    void defersNegatedOrUnclearTextToServer(String text) {
+        assertThat(lexicon.classify(text).isConfident()).isFalse();
+    }
+}
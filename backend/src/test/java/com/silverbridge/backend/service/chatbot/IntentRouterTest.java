@@ -0,0 +1,68 @@
+package com.silverbridge.backend.service.chatbot;
+
+import com.silverbridge.backend.dto.chatbot.ScheduleCommandDto;
+import com.silverbridge.backend.dto.chatbot.ScheduleCommandDto.Action;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * IntentRouter 발화 말뭉치 테스트 (기준 시각은 KoreanTemporalParserTest와 동일)
+ */
+class IntentRouterTest {
+
+    private IntentRouter router;
+
+    @BeforeEach
+    void setUp() {
+        router = new IntentRouter(new SimpleMeterRegistry(),
+                new KoreanTemporalParser(KoreanTemporalParserTest.CLOCK), KoreanTemporalParserTest.CLOCK);
+        ReflectionTestUtils.setField(router, "noneThreshold", 0.6);
+        ReflectionTestUtils.setField(router, "alarmThreshold", 0.8);
+    }
+
+    @ParameterizedTest(name = "{0} → {1}")
+    @CsvSource(delimiter = '|', value = {
+            "안녕하세요 오늘 날씨 좋네        | NONE  |                |",
+            "내일 2시에 치과 예약 잡아줘      | ADD   | 치과 예약      | 2026-10-15T14:00:00",
+            "밤 12시에 약 먹기 등록해줘       | ADD   | 약 먹기        | 2026-10-15T00:00:00",
+            "내일 일정 뭐 있어?               | CHECK |                | 2026-10-15",
+            "알림 꺼줘                        | ALARM | false          |",
+            "알람 켜줘                        | ALARM | true           |",
+    })
+    void resolvesLocally(String text, Action action, String detail, String dateTime) {
+        IntentRouter.Decision decision = router.route(text);
+
+        assertThat(decision.isResolved()).isTrue();
+        ScheduleCommandDto command = decision.getCommand();
+        assertThat(command.getAction()).isEqualTo(action);
+        switch (action) {
+            case ADD -> {
+                assertThat(command.getTitle()).isEqualTo(detail);
+                assertThat(command.getStartDateTime()).isEqualTo(dateTime);
+            }
+            case CHECK -> assertThat(command.getTargetDate()).isEqualTo(dateTime);
+            case ALARM -> assertThat(command.getAlarmOn()).isEqualTo(Boolean.valueOf(detail));
+            default -> { }
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "내일 약속 있어?",                   // 약한 추가 단서("약속")만으로는 추가인지 알 수 없음
+            "이번주 월요일 병원 예약 잡아줘",    // 이미 지난 날짜
+            "네 시장 보러 가는 거 등록해줘",     // "네 시"가 아님 → 날짜/시간 없음
+            "3일간 여행 일정 등록해줘",          // 기간 표현
+            "알림 끄지 마",                      // 부정된 끄기
+            "알람이 안 울려요",                  // 켜기 요청이 아니라 고장 호소
+            "내일 치과 일정 취소해줘",           // 삭제는 LLM
+    })
+    void escalatesToLlm(String text) {
+        assertThat(router.route(text).isResolved()).isFalse();
+    }
+}
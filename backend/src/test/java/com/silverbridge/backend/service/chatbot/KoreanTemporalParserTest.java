@@ -0,0 +1,67 @@
+package com.silverbridge.backend.service.chatbot;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * KoreanTemporalParser 발화 말뭉치 테스트
+ * - 기준 시각: 2026-10-14(수) 10:00 (Asia/Seoul)
+ */
+class KoreanTemporalParserTest {
+
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+    static final Clock CLOCK = Clock.fixed(LocalDateTime.of(2026, 10, 14, 10, 0).atZone(ZONE).toInstant(), ZONE);
+
+    private final KoreanTemporalParser parser = new KoreanTemporalParser(CLOCK);
+
+    @ParameterizedTest(name = "{0} → {1} {2}")
+    @CsvSource(delimiter = '|', value = {
+            "내일 2시                  | 2026-10-15 | 14:00",
+            "모레 점심                 | 2026-10-16 | 12:00",
+            "다음주 화요일 오후 3시    | 2026-10-20 | 15:00",
+            "12월 3일 오전 10시 반     | 2026-12-03 | 10:30",
+            "1월 5일                   | 2027-01-05 |",
+            "금요일                    | 2026-10-16 |",
+            "이번주 월요일             | 2026-10-12 |",
+            "3일 뒤                    | 2026-10-17 |",
+            "일주일 뒤 아침            | 2026-10-21 | 08:00",
+            "20일                      | 2026-10-20 |",
+            "5일                       | 2026-11-05 |",
+            "오후 3시30분              |            | 15:30",
+            "저녁 7시까지              |            | 19:00",
+            "네 시에 만나              |            | 16:00",
+            // 밤 12시/자정은 그날 밤이 지난 다음 날 00:00
+            "밤 12시                   | 2026-10-15 | 00:00",
+            "오늘 밤 1시               | 2026-10-15 | 01:00",
+            "자정                      | 2026-10-15 | 00:00",
+            "내일 밤 12시              | 2026-10-16 | 00:00",
+    })
+    void parsesDateAndTime(String text, LocalDate date, LocalTime time) {
+        KoreanTemporalParser.Result result = parser.parse(text);
+
+        assertThat(result).isNotNull();
+        assertThat(result.getDate()).isEqualTo(date);
+        assertThat(result.getTime()).isEqualTo(time);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "네 시장 가야지",   // "네 시"가 아니라 "시장"
+            "세 시간 걸려",
+            "3일간 여행 가",    // 기간이지 3일(日)이 아님
+            "3일 동안 아팠어",
+            "그냥 심심해",
+    })
+    void ignoresNonTemporalText(String text) {
+        assertThat(parser.parse(text)).isNull();
+    }
+}